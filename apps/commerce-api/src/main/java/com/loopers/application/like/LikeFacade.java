@@ -8,7 +8,10 @@ import com.loopers.domain.product.ProductInfo;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.user.UserInfo;
 import com.loopers.domain.user.UserService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -17,6 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Component
 @RequiredArgsConstructor
 public class LikeFacade {
+    private static final int MAX_BATCH_STATUS_SIZE = 100;
+
     private final LikeService likeService;
     private final UserService  userService;
     private final ProductService productService;
@@ -55,6 +60,38 @@ public class LikeFacade {
         return like;
     }
 
+    /**
+     * 여러 상품에 대한 좋아요 여부 (상품 목록 화면용)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Boolean> likedBy(String userId, List<String> productIds){
+        return likeService.likedBy(userId, productIds);
+    }
+
+    /**
+     * 상품 그리드용 좋아요 수/좋아요 여부 일괄 조회
+     */
+    @Transactional(readOnly = true)
+    public List<LikeStatusResult> batchStatus(String userId, List<String> productIds){
+        if (productIds == null || productIds.isEmpty()) {
+            return List.of();
+        }
+        if (productIds.size() > MAX_BATCH_STATUS_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "한 번에 조회할 수 있는 상품은 " + MAX_BATCH_STATUS_SIZE + "개 이하입니다");
+        }
+        List<String> distinctIds = productIds.stream().distinct().toList();
+        Map<String, Long> likeCounts = likeService.findLikeCountsWithCache(distinctIds);
+        Map<String, Boolean> liked = likeService.likedBy(userId, distinctIds);
+
+        return distinctIds.stream()
+            .map(productId -> LikeStatusResult.of(
+                productId,
+                likeCounts.getOrDefault(productId, 0L),
+                liked.getOrDefault(productId, false)
+            ))
+            .toList();
+    }
+
     /**
      * 좋아요 컬럼 값으로 카운팅
      */
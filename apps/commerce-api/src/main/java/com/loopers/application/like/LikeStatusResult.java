@@ -0,0 +1,11 @@
+package com.loopers.application.like;
+
+public record LikeStatusResult(
+    String productId,
+    Long likesCount,
+    Boolean liked
+) {
+    public static LikeStatusResult of(String productId, Long likesCount, Boolean liked) {
+        return new LikeStatusResult(productId, likesCount, liked);
+    }
+}
@@ -18,11 +18,14 @@ import com.loopers.domain.point.Point;
 import com.loopers.domain.point.PointService;
 import com.loopers.domain.product.ProductInfo;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.StockReservationRepository.ConfirmResult;
+import com.loopers.domain.product.StockReservationService;
 import com.loopers.domain.user.UserInfo;
 import com.loopers.domain.user.UserService;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
@@ -34,6 +37,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import org.springframework.transaction.support.TransactionTemplate;
 
 @Component
@@ -44,9 +48,11 @@ public class OrderFacade {
     private final UserService userService;
     private final PointService pointService;
     private final ProductService productService;
+    private final StockReservationService stockReservationService;
     private final CouponService couponService;
     private final PaymentService paymentService;
     private final CardService cardService;
+    private final TransactionTemplate transactionTemplate;
 
     private final ApplicationEventPublisher eventPublisher;
     /**
@@ -77,6 +83,9 @@ public class OrderFacade {
             
             // 4. 주문 생성
             Order order = createOrder(criteria, discountPrice);
+
+            // 4-1. 재고 예약 (주문번호 기준, 주문 트랜잭션이 롤백되면 해제)
+            reserveStock(order);
             
             // 5. 포인트 처리
             processPoint(userInfo, criteria, order.getTotalAmount().subtract(discountPrice));
@@ -104,6 +113,71 @@ public class OrderFacade {
 
 
 
+    /**
+     * 주문 일괄 생성 (쿠폰/포인트를 사용하지 않는 주문만 - 주문 접수 파이프라인에서 호출)
+     * 상품은 한 번에 조회하고, 주문/주문상세는 한 트랜잭션에서 JDBC batch로 저장한다.
+     * 검증에 실패한 주문만 제외하고, 저장에 실패하면 묶음 전체가 실패한다.
+     * @return 요청 순서대로 주문 생성 결과
+     */
+    public List<OrderPlacement> placeOrders(List<OrderCriteria.CreateOrder> criteriaList) {
+        OrderPlacement[] placements = new OrderPlacement[criteriaList.size()];
+        Map<Integer, Order> orders = new LinkedHashMap<>();
+
+        // 1. 입력값/사용자/상품 검증 및 주문 생성 (상품은 묶음 전체를 한 번에 조회)
+        Map<String, ProductInfo> productInfos = findProductsForBatch(criteriaList);
+        for (int i = 0; i < criteriaList.size(); i++) {
+            OrderCriteria.CreateOrder criteria = criteriaList.get(i);
+            try {
+                if (StringUtils.isNotEmpty(criteria.couponNo())
+                    || (criteria.usePoint() != null && criteria.usePoint().compareTo(BigDecimal.ZERO) != 0)) {
+                    throw new CoreException(ErrorType.BAD_REQUEST, "쿠폰/포인트를 사용하는 주문은 일괄 생성할 수 없습니다");
+                }
+                validateOrderDetails(criteria.orderDetails());
+                validateUser(criteria.userId());
+                List<String> productIds = criteria.orderDetails().stream().map(OrderCriteria.OrderDetailRequest::productId).toList();
+                validateProducts(criteria.orderDetails(), productInfos.keySet().containsAll(productIds)
+                    ? productInfos : productService.findProducts(productIds));
+                orders.put(i, createOrder(criteria, BigDecimal.ZERO));
+            } catch (CoreException e) {
+                placements[i] = OrderPlacement.failure(e);
+            }
+        }
+
+        // 2. 재고 예약 및 일괄 저장 (한 트랜잭션 - 결제는 커밋 후 OrderCreatedEvent로 처리)
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                orders.entrySet().removeIf(entry -> {
+                    try {
+                        reserveStock(entry.getValue());
+                        return false;
+                    } catch (CoreException e) {
+                        placements[entry.getKey()] = OrderPlacement.failure(e);
+                        return true;
+                    }
+                });
+                orderService.placeOrders(new ArrayList<>(orders.values()));
+                orders.values().forEach(order -> eventPublisher.publishEvent(new OrderCreatedEvent(this, order, order.getUserId())));
+            });
+        } catch (Exception e) {
+            log.error("주문 일괄 생성 실패 - count: {}, error: {}", orders.size(), e.getMessage());
+            CoreException error = e instanceof CoreException coreException
+                ? coreException : new CoreException(ErrorType.INTERNAL_ERROR, "주문 처리 중 오류가 발생했습니다");
+            orders.keySet().forEach(i -> placements[i] = OrderPlacement.failure(error));
+            return List.of(placements);
+        }
+
+        // 3. 저장된 주문 조회 (ID/생성 시각 포함)
+        Map<String, Order> savedOrders = new LinkedHashMap<>();
+        orderService.findOrdersByOrderNos(orders.values().stream().map(Order::getOrderNo).toList())
+            .forEach(saved -> savedOrders.put(saved.getOrderNo(), saved));
+        orders.forEach((i, order) -> {
+            Order saved = savedOrders.getOrDefault(order.getOrderNo(), order);
+            saved.setOrderDetailList(order.getOrderDetailList());
+            placements[i] = OrderPlacement.success(OrderInfo.of(saved));
+        });
+        return List.of(placements);
+    }
+
     /**
      * 결제 처리 및 재고 차감 (주문 생성 후 별도 처리)
      * @param criteria 주문 생성 요청 정보
@@ -162,14 +236,68 @@ public class OrderFacade {
      * 상품 유효성 검증
      */
     private void validateProducts(List<OrderCriteria.OrderDetailRequest> orderDetails) {
+        validateProducts(orderDetails, productService.findProducts(
+            orderDetails.stream().map(OrderCriteria.OrderDetailRequest::productId).toList()
+        ));
+    }
+
+    /**
+     * 조회한 상품으로 재고 검증 (재고 예약을 사용하면 재고 확인은 예약에서 처리)
+     */
+    private void validateProducts(List<OrderCriteria.OrderDetailRequest> orderDetails, Map<String, ProductInfo> productInfos) {
+        if (stockReservationService.isEnabled()) {
+            return;
+        }
         orderDetails.forEach(detail -> {
-            ProductInfo productInfo = productService.findProduct(detail.productId());
+            ProductInfo productInfo = productInfos.get(detail.productId());
             if(productInfo.getQuantity() < detail.quantity()){
                 throw new CoreException(ErrorType.BAD_REQUEST, "주문하려는 상품의 재고가 부족합니다");
             }
         });
     }
 
+    /**
+     * 묶음 전체 상품 한 번에 조회 (없는 상품이 섞여 있으면 빈 결과 - 주문별로 다시 조회)
+     */
+    private Map<String, ProductInfo> findProductsForBatch(List<OrderCriteria.CreateOrder> criteriaList) {
+        List<String> productIds = criteriaList.stream()
+            .filter(criteria -> criteria.orderDetails() != null)
+            .flatMap(criteria -> criteria.orderDetails().stream())
+            .filter(detail -> detail != null && detail.productId() != null)
+            .map(OrderCriteria.OrderDetailRequest::productId)
+            .distinct()
+            .toList();
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return productService.findProducts(productIds);
+        } catch (CoreException e) {
+            return Map.of();
+        }
+    }
+
+    /**
+     * 주문 상품 전체 재고 예약 (하나라도 부족하면 주문 실패)
+     */
+    private void reserveStock(Order order) {
+        if (!stockReservationService.isEnabled()) {
+            return;
+        }
+        stockReservationService.reserve(order.getOrderNo(), stockLines(order));
+    }
+
+    /**
+     * 주문 상품별 수량 (같은 상품은 합산)
+     */
+    private Map<String, Long> stockLines(Order order) {
+        Map<String, Long> lines = new LinkedHashMap<>();
+        for (OrderDetail item : order.getOrderDetailList()) {
+            lines.merge(item.getProductId(), item.getQuantity(), Long::sum);
+        }
+        return lines;
+    }
+
     /**
      * 주문 상세 입력값 유효성 검증
      */
@@ -306,9 +434,10 @@ public class OrderFacade {
      * 상품 재고 차감
      */
     private void updateProductStock(Order order) {
-        for (OrderDetail item : order.getOrderDetailList()) {
-            productService.updateStock(item.getProductId(), item.getQuantity(), OrderStatus.ORDER_PLACED);
+        if (stockReservationService.isEnabled() && stockReservationService.confirm(order.getOrderNo()) != ConfirmResult.EXPIRED) {
+            return;
         }
+        productService.decreaseStockBatch(stockLines(order));
     }
 
     /**
@@ -0,0 +1,231 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderInfo;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 접수 파이프라인 (order.pipeline.enabled=true일 때)
+ * 요청은 고정 크기 큐에 넣고, writer 스레드가 큐에 쌓인 만큼(최대 batch-size) 꺼내 한 트랜잭션으로 저장한다 (group commit).
+ * 큐가 가득 차면 기다리지 않고 429로 거절한다.
+ * writer가 꺼내기 전에 대기 시간(timeout)이 지나거나 종료되면 저장하지 않고 429로 실패시킨다.
+ * 쿠폰/포인트를 사용하는 주문은 주문별 트랜잭션이 필요하므로 writer 스레드에서 기존 경로(placeOrder)로 처리한다.
+ */
+@Component
+@Slf4j
+public class OrderIntakePipeline {
+    private final OrderFacade orderFacade;
+    private final boolean enabled;
+    private final int writers;
+    private final int batchSize;
+    private final Duration timeout;
+    private final BlockingQueue<IntakeTask> queue;
+    private final List<Thread> writerThreads = new ArrayList<>();
+    private final Counter rejectedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private volatile boolean running;
+
+    public OrderIntakePipeline(
+        OrderFacade orderFacade,
+        MeterRegistry meterRegistry,
+        @Value("${order.pipeline.enabled:false}") boolean enabled,
+        @Value("${order.pipeline.capacity:1024}") int capacity,
+        @Value("${order.pipeline.writers:2}") int writers,
+        @Value("${order.pipeline.batch-size:64}") int batchSize,
+        @Value("${order.pipeline.timeout:5s}") Duration timeout
+    ) {
+        this.orderFacade = orderFacade;
+        this.enabled = enabled;
+        this.writers = writers;
+        this.batchSize = batchSize;
+        this.timeout = timeout;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.rejectedCounter = Counter.builder("order.pipeline.rejected")
+            .description("큐가 가득 차 거절한 주문 수")
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("order.pipeline.batch.size")
+            .description("한 트랜잭션으로 저장한 주문 수")
+            .register(meterRegistry);
+        Gauge.builder("order.pipeline.queue", queue, BlockingQueue::size)
+            .description("접수 대기 중인 주문 수")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < writers; i++) {
+            Thread writer = new Thread(this::runWriter, "order-writer-" + i);
+            writer.setDaemon(true);
+            writer.start();
+            writerThreads.add(writer);
+        }
+        log.info("주문 접수 파이프라인 시작 - writers: {}, batchSize: {}", writers, batchSize);
+    }
+
+    /**
+     * 종료 시 큐에 남은 주문까지 처리하고, 그래도 남은 주문은 저장하지 않고 실패시킨다
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread writer : writerThreads) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        List<IntakeTask> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        CoreException error = new CoreException(ErrorType.TOO_MANY_REQUESTS, "서버가 종료 중이라 주문을 접수하지 못했습니다. 잠시 후 다시 시도해주세요");
+        for (IntakeTask task : remaining) {
+            if (task.claim()) {
+                task.future().completeExceptionally(error);
+            }
+        }
+        if (!remaining.isEmpty()) {
+            log.warn("종료 시 처리하지 못한 주문 실패 처리 - count: {}", remaining.size());
+        }
+    }
+
+    /**
+     * 주문 접수 (큐가 가득 차면 TOO_MANY_REQUESTS)
+     */
+    public CompletableFuture<OrderInfo> submit(OrderCriteria.CreateOrder criteria) {
+        return enqueue(criteria).future();
+    }
+
+    /**
+     * 주문 접수 후 저장될 때까지 timeout만큼 대기
+     * writer가 꺼내기 전에 시간이 지나면 저장하지 않고 TOO_MANY_REQUESTS, 이미 저장 중이면 결과를 알 수 없으므로 INTERNAL_ERROR
+     */
+    public OrderInfo place(OrderCriteria.CreateOrder criteria) {
+        IntakeTask task = enqueue(criteria);
+        try {
+            return task.future().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CoreException coreException) {
+                throw coreException;
+            }
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "주문 처리 중 오류가 발생했습니다");
+        } catch (TimeoutException e) {
+            if (task.claim()) {
+                rejectedCounter.increment();
+                throw new CoreException(ErrorType.TOO_MANY_REQUESTS, "주문 요청이 많아 접수하지 못했습니다. 잠시 후 다시 시도해주세요");
+            }
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "주문 처리가 지연되고 있습니다. 주문 내역을 확인해주세요");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "주문 처리 중 오류가 발생했습니다");
+        }
+    }
+
+    private IntakeTask enqueue(OrderCriteria.CreateOrder criteria) {
+        IntakeTask task = new IntakeTask(criteria, new CompletableFuture<>(), new AtomicBoolean());
+        if (!running || !queue.offer(task)) {
+            rejectedCounter.increment();
+            throw new CoreException(ErrorType.TOO_MANY_REQUESTS, "주문 요청이 많아 접수할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+        return task;
+    }
+
+    private void runWriter() {
+        List<IntakeTask> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                IntakeTask first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                // 대기 시간이 지났거나 종료로 실패 처리된 주문은 제외
+                batch.removeIf(task -> !task.claim());
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("주문 접수 처리 실패 - count: {}, error: {}", batch.size(), e.getMessage(), e);
+                CoreException error = new CoreException(ErrorType.INTERNAL_ERROR, "주문 처리 중 오류가 발생했습니다");
+                batch.forEach(task -> task.future().completeExceptionally(error));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<IntakeTask> batch) {
+        List<IntakeTask> grouped = new ArrayList<>(batch.size());
+        for (IntakeTask task : batch) {
+            if (usesCouponOrPoint(task.criteria())) {
+                placeOne(task);
+            } else {
+                grouped.add(task);
+            }
+        }
+        if (grouped.isEmpty()) {
+            return;
+        }
+
+        batchSizeSummary.record(grouped.size());
+        List<OrderPlacement> placements = orderFacade.placeOrders(grouped.stream().map(IntakeTask::criteria).toList());
+        for (int i = 0; i < grouped.size(); i++) {
+            OrderPlacement placement = placements.get(i);
+            if (placement.isSuccess()) {
+                grouped.get(i).future().complete(placement.orderInfo());
+            } else {
+                grouped.get(i).future().completeExceptionally(placement.error());
+            }
+        }
+    }
+
+    private void placeOne(IntakeTask task) {
+        try {
+            task.future().complete(orderFacade.placeOrder(task.criteria()));
+        } catch (Exception e) {
+            task.future().completeExceptionally(e);
+        }
+    }
+
+    private static boolean usesCouponOrPoint(OrderCriteria.CreateOrder criteria) {
+        return StringUtils.isNotEmpty(criteria.couponNo())
+            || (criteria.usePoint() != null && criteria.usePoint().compareTo(BigDecimal.ZERO) != 0);
+    }
+
+    /**
+     * @param claimed writer가 처리하기로 했거나, 대기 시간 초과/종료로 실패 처리된 주문 (먼저 선점한 쪽만 처리)
+     */
+    private record IntakeTask(OrderCriteria.CreateOrder criteria, CompletableFuture<OrderInfo> future, AtomicBoolean claimed) {
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
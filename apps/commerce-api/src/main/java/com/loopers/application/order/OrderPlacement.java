@@ -0,0 +1,24 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderInfo;
+import com.loopers.support.error.CoreException;
+
+/**
+ * 주문 일괄 생성 결과 (주문 정보 또는 실패 원인)
+ */
+public record OrderPlacement(
+    OrderInfo orderInfo,
+    CoreException error
+) {
+    public static OrderPlacement success(OrderInfo orderInfo) {
+        return new OrderPlacement(orderInfo, null);
+    }
+
+    public static OrderPlacement failure(CoreException error) {
+        return new OrderPlacement(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -16,11 +16,14 @@ import com.loopers.domain.payment.PaymentService;
 import com.loopers.domain.payment.TransactionDetailResponse;
 import com.loopers.domain.payment.TransactionStatus;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.StockReservationRepository.ConfirmResult;
+import com.loopers.domain.product.StockReservationService;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.interfaces.api.payment.PaymentDto.CreateCallbackRequest;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
@@ -36,6 +39,7 @@ public class PaymentFacade {
     private final ProductService productService;
     private final OrderService orderService;
     private final CardService cardService;
+    private final StockReservationService stockReservationService;
 
     /**
      * 결제 생성
@@ -121,12 +125,18 @@ public class PaymentFacade {
         paymentService.updatePaymentStatus(
             createCallbackRequest.transactionKey(), createCallbackRequest.orderId(), createCallbackRequest.status(), createCallbackRequest.reason()
         );
+        //재고 예약을 사용하면 예약 확정 (products 반영은 확정분 배치 flush에서 처리, 결제 후속 처리에서 이미 확정했으면 종료)
+        if (stockReservationService.isEnabled()) {
+            if (stockReservationService.confirm(createCallbackRequest.orderId()) != ConfirmResult.EXPIRED) {
+                return;
+            }
+            log.warn("재고 예약이 만료되어 DB 재고에서 차감 - orderNo: {}", createCallbackRequest.orderId());
+        }
         //주문 상세 조회
         List<OrderDetail> orderDetailList = orderService.findOrderDetailByOrderNo(createCallbackRequest.orderId());
-        //주문한 수량 재고 차감
-        for(OrderDetail orderDetail : orderDetailList){
-            productService.updateStock(orderDetail.getProductId(), orderDetail.getQuantity(), OrderStatus.ORDER_PAID);
-        }
+        //주문한 수량 재고 차감 (상품코드 순 batch 한 번)
+        productService.decreaseStockBatch(orderDetailList.stream()
+            .collect(Collectors.toMap(OrderDetail::getProductId, OrderDetail::getQuantity, Long::sum)));
 
     }
 
@@ -21,7 +21,8 @@ public record ProductCriteria(
     String category3,
     SortBy sortBy,
     int page,
-    int size
+    int size,
+    String cursor
 ) {
     public static ProductCommand toCommand(ProductCriteria criteria){
         return new ProductCommand(
@@ -0,0 +1,24 @@
+package com.loopers.application.product;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.loopers.domain.product.ProductInfo;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 상품 목록 (전체 건수는 조회하지 않음)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProductCursorResult {
+    private List<ProductInfo> products;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -9,8 +9,13 @@ import com.loopers.domain.product.ProductInfo;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.product.SortBy;
+import com.loopers.domain.product.TrendingEngine;
+import com.loopers.domain.product.TrendingProduct;
+import com.loopers.domain.product.TrendingWindow;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import com.loopers.domain.product.Product;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -27,6 +32,7 @@ public class ProductFacade {
     private final LikeService likeService;
     private final BrandService brandService;
     private final ProductRepository productRepository;
+    private final TrendingEngine trendingEngine;
 
     /**
      * 물품 단건 조회
@@ -87,6 +93,45 @@ public class ProductFacade {
         return productPageResult;
     }
 
+    /**
+     * 물품 리스트 조회 (커서 기반)
+     * @param productCriteria
+     * @return
+     */
+    public ProductCursorResult getProductListByCursor(ProductCriteria productCriteria){
+        return productService.findProductListByBrandCodeWithCursor(
+            productCriteria.brandCode(),
+            productCriteria.sortBy(),
+            productCriteria.cursor(),
+            productCriteria.size()
+        );
+    }
+
+    /**
+     * 트렌딩 상품 조회 (brandCode가 없으면 전체, 삭제된 상품은 제외)
+     */
+    public TrendingProductResult getTrendingProducts(String brandCode, String window, int size){
+        TrendingWindow trendingWindow = TrendingWindow.from(window);
+        if (size < 1 || size > trendingEngine.topK()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "size는 1 이상 " + trendingEngine.topK() + " 이하만 가능합니다");
+        }
+
+        List<TrendingProduct> trending = trendingEngine.top(brandCode, trendingWindow, size);
+        List<String> productIds = trending.stream().map(TrendingProduct::productId).toList();
+        Map<String, Product> products = productIds.isEmpty()
+            ? Map.of()
+            : productRepository.findProductsWithCache(productIds, Duration.ofMinutes(1));
+
+        List<TrendingProductResult.Item> items = new ArrayList<>();
+        trending.forEach(trendingProduct -> {
+            Product product = products.get(trendingProduct.productId());
+            if (product != null) {
+                items.add(new TrendingProductResult.Item(ProductInfo.from(product), trendingProduct.score()));
+            }
+        });
+        return new TrendingProductResult(trendingWindow.code(), items);
+    }
+
     /**
      * likeSummary와 조합
      * @param productInfos
@@ -0,0 +1,15 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductInfo;
+import java.util.List;
+
+/**
+ * 트렌딩 상품 목록 (score는 같은 window 안에서의 상대값)
+ */
+public record TrendingProductResult(
+    String window,
+    List<Item> products
+) {
+    public record Item(ProductInfo product, double score) {
+    }
+}
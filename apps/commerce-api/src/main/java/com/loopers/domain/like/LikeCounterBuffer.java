@@ -0,0 +1,112 @@
+package com.loopers.domain.like;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 인메모리 좋아요 증감분 버퍼 (like.counter.mode=memory)
+ * 상품별 LongAdder에 누적하고, flush는 읽은 값만큼 빼서 반영 중 들어온 증감분을 잃지 않는다.
+ * 반영 후 0이 된 상품은 버퍼에서 제거해, 한 번 좋아요가 눌린 상품이 계속 남아 map이 커지지 않게 한다.
+ * 프로세스가 비정상 종료되면 반영 전 증감분은 유실된다 (정상 종료 시에는 LikeSummaryFlusher가 반영).
+ */
+@Component
+@ConditionalOnProperty(name = "like.counter.mode", havingValue = "memory")
+@Slf4j
+public class LikeCounterBuffer implements LikeDeltaRepository {
+    private final ConcurrentHashMap<String, LongAdder> deltas = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public LikeCounterBuffer(MeterRegistry meterRegistry) {
+        Gauge.builder("like.counter.pending.delta", this, LikeCounterBuffer::pendingDeltaTotal)
+            .description("반영 전 좋아요 증감분 (절대값 합)")
+            .register(meterRegistry);
+        Gauge.builder("like.counter.pending.products", this, LikeCounterBuffer::pendingProductCount)
+            .description("반영 전 증감분이 있는 상품 수 (버퍼에 남은 상품 수)")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void increment(String productId, long delta) {
+        // flush의 제거(computeIfPresent)와 같은 key 잠금 안에서 더해, 제거된 adder에 더해져 유실되지 않게 한다
+        deltas.compute(productId, (id, adder) -> {
+            LongAdder target = adder != null ? adder : new LongAdder();
+            target.add(delta);
+            return target;
+        });
+    }
+
+    @Override
+    public Map<String, Long> flush(Consumer<Map<String, Long>> applier, Duration lockWait) {
+        if (!tryLock(lockWait)) {
+            log.debug("like counter flush skipped - 다른 flush 진행 중");
+            return Map.of();
+        }
+        try {
+            Map<String, Long> snapshot = new HashMap<>();
+            deltas.forEach((productId, adder) -> {
+                long delta = adder.sum();
+                if (delta != 0) {
+                    snapshot.put(productId, delta);
+                }
+            });
+            if (!snapshot.isEmpty()) {
+                // 반영에 실패하면 버퍼에 그대로 남아 다음 flush에서 다시 반영
+                applier.accept(snapshot);
+            }
+
+            // 반영한 만큼 빼고, 0이 된 상품(반영분 + 좋아요/취소로 상쇄된 상품)은 제거
+            deltas.keySet().forEach(productId -> deltas.computeIfPresent(productId, (id, adder) -> {
+                Long flushed = snapshot.get(id);
+                if (flushed != null) {
+                    adder.add(-flushed);
+                }
+                return adder.sum() == 0 ? null : adder;
+            }));
+            return snapshot.isEmpty() ? Map.of() : snapshot;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public Map<String, Long> pendingDeltas(Collection<String> productIds) {
+        Map<String, Long> pending = new HashMap<>();
+        for (String productId : productIds) {
+            LongAdder adder = deltas.get(productId);
+            long delta = adder != null ? adder.sum() : 0L;
+            if (delta != 0) {
+                pending.put(productId, delta);
+            }
+        }
+        return pending;
+    }
+
+    private double pendingDeltaTotal() {
+        return deltas.values().stream().mapToLong(adder -> Math.abs(adder.sum())).sum();
+    }
+
+    private double pendingProductCount() {
+        return deltas.size();
+    }
+
+    private boolean tryLock(Duration lockWait) {
+        try {
+            return flushLock.tryLock(lockWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
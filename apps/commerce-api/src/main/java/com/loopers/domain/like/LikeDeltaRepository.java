@@ -0,0 +1,29 @@
+package com.loopers.domain.like;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * like_summary에 아직 반영되지 않은 좋아요 증감분 저장소 (write-behind)
+ */
+public interface LikeDeltaRepository {
+
+    /**
+     * 좋아요 증감분 누적
+     */
+    void increment(String productId, long delta);
+
+    /**
+     * 누적된 증감분을 꺼내 applier로 반영 (applier가 실패하면 다음 flush에서 다시 반영)
+     * @param lockWait 다른 flush가 진행 중일 때 기다릴 시간 (0이면 바로 포기)
+     * @return 반영한 증감분 (productId -> delta)
+     */
+    Map<String, Long> flush(Consumer<Map<String, Long>> applier, Duration lockWait);
+
+    /**
+     * 아직 반영되지 않은 증감분 조회
+     */
+    Map<String, Long> pendingDeltas(Collection<String> productIds);
+}
@@ -0,0 +1,25 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 사용자별 좋아요한 상품 멤버십 (좋아요 여부 조회용)
+ */
+public interface LikeMembershipRepository {
+
+    /**
+     * 상품별 좋아요 여부 (productId -> liked)
+     */
+    Map<String, Boolean> likedBy(String userId, Collection<String> productIds);
+
+    /**
+     * 좋아요 추가 반영 (트랜잭션 커밋 후)
+     */
+    void added(String userId, String productId);
+
+    /**
+     * 좋아요 취소 반영 (트랜잭션 커밋 후)
+     */
+    void removed(String userId, String productId);
+}
@@ -7,7 +7,8 @@ public interface LikeRepository {
     Optional<Like> findByUserIdAndProductId(String userId, String productId);
     Optional<Like> findByUserIdAndProductIdOptimistic(String userId, String productId);
     Like save(Like like);
-    void deleteByProductIdAndUserId(String userId, String productId);
+    int deleteByProductIdAndUserId(String userId, String productId);
+    int insertIgnore(Like like);
     Optional<Like> likeByProductId(String productId);
     Boolean existsByUserIdAndProductId(String userId, String productId);
 }
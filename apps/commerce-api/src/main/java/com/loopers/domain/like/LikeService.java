@@ -2,6 +2,8 @@ package com.loopers.domain.like;
 
 import com.loopers.domain.like.event.LikeEvent;
 import com.loopers.domain.user.event.UserActionEvent;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -10,7 +12,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.dao.DeadlockLoserDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,19 +21,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class LikeService {
     private final LikeRepository likeRepository;
     private final LikeSummaryRepository likeSummaryRepository;
+    private final LikeDeltaRepository likeDeltaRepository;
+    private final LikeMembershipRepository likeMembershipRepository;
+    private final LikeToggleCoalescer likeToggleCoalescer;
     private final ApplicationEventPublisher eventPublisher;
     
     /**
-     * like 추가 (Pessimistic Locking)
+     * like 추가 - INSERT IGNORE 한 번으로 처리하고, 실제로 저장된 경우에만 이벤트 발행 (멱등성 보장)
      */
     public void like(String userId, String productId){
-        // 1. 좋아요 존재 여부 확인 (읽기 전용)
-        if (checkLikeExists(userId, productId)) {
-            log.debug("Like already exists - userId: {}, productId: {}", userId, productId);
-            return; // 이미 좋아요를 눌렀으면 무시 (멱등성 보장)
+        if (likeToggleCoalescer.isEnabled()) {
+            likeToggleCoalescer.submit(userId, productId, true);
+            return;
         }
-
-        // 2. 좋아요 생성 및 LikeSummary 업데이트 (원자적 연산)
         createLikeAndUpdateSummary(userId, productId);
     }
 
@@ -51,119 +52,70 @@ public class LikeService {
     }
 
     /**
-     * like 취소
+     * like 취소 - DELETE 한 번으로 처리하고, 실제로 삭제된 경우에만 이벤트 발행 (멱등성 보장)
      */
     public void likeCancel(String userId, String productId){
         log.debug("Like cancel request - userId: {}, productId: {}", userId, productId);
-
-        // 1. 좋아요가 존재하는지 확인
-        if (!checkLikeExists(userId, productId)) {
-            log.debug("Like does not exist - userId: {}, productId: {}", userId, productId);
-            return; // 좋아요가 없으면 무시 (멱등성 보장)
+        if (likeToggleCoalescer.isEnabled()) {
+            likeToggleCoalescer.submit(userId, productId, false);
+            return;
         }
-
-        // 2. 좋아요 삭제 및 LikeSummary 업데이트 (원자적 연산)
         deleteLikeAndUpdateSummary(userId, productId);
     }
 
+    /**
+     * 합쳐진 토글의 최종 상태 반영
+     */
+    public void applyLikeState(String userId, String productId, boolean liked){
+        if (liked) {
+            createLikeAndUpdateSummary(userId, productId);
+        } else {
+            deleteLikeAndUpdateSummary(userId, productId);
+        }
+    }
+
     /**
      * 좋아요 존재 여부 확인 (읽기 전용)
      */
     @Transactional(readOnly = true)
     private boolean checkLikeExists(String userId, String productId) {
-        return likeRepository.existsByUserIdAndProductId(userId, productId);
+        return likeMembershipRepository.likedBy(userId, List.of(productId)).get(productId);
     }
 
     /**
-     * 좋아요 생성 및 LikeSummary 업데이트 (원자적 연산)
+     * 좋아요 생성 - 저장된 행 수로 이미 좋아요한 상태인지 판단 (예외/재시도 없음)
      */
     @Transactional
     private void createLikeAndUpdateSummary(String userId, String productId) {
-        int maxRetries = 3;
-        int retryCount = 0;
-        
-        while (retryCount < maxRetries) {
-            try {
-                //사용자 행동 모니터링
-                eventPublisher.publishEvent(new UserActionEvent(userId, new Object(){}.getClass().getEnclosingMethod().getName(), productId));
-
-                // 1. 새로운 좋아요 생성
-                Like newLike = new Like(productId, userId);
-                likeRepository.save(newLike);
-                log.debug("Like created - userId: {}, productId: {}", userId, productId);
-
-                //이벤트 비동기화 방식으로 바꿈
-                log.debug("이벤트 발행 시작 - productId: {}, userId: {}, increment: {}", productId, userId, true);
-
-                eventPublisher.publishEvent(new LikeEvent(this, userId, productId, true));
-                log.debug("이벤트 발행 완료 - productId: {}, userId: {}", productId, userId);
-                
-                return; // 성공하면 종료
-                
-            } catch (DataIntegrityViolationException e) {
-                // 중복 키 에러는 무시 (이미 좋아요가 존재함)
-                log.debug("Like already exists - userId: {}, productId: {}", userId, productId);
-                return;
-            } catch (DeadlockLoserDataAccessException e) {
-                retryCount++;
-                if (retryCount >= maxRetries) {
-                    log.warn("Like creation failed after {} retries for userId: {}, productId: {}, error: {}", 
-                        maxRetries, userId, productId, e.getMessage());
-                    throw e;
-                }
-                log.debug("Retrying like creation for userId: {}, productId: {}, attempt: {}", 
-                    userId, productId, retryCount);
-                try {
-                    Thread.sleep(100 * retryCount); // 지수 백오프
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Interrupted during retry", ie);
-                }
-            }
+        int inserted = likeRepository.insertIgnore(new Like(productId, userId));
+        if (inserted == 0) {
+            log.debug("Like already exists - userId: {}, productId: {}", userId, productId);
+            return;
         }
+        likeMembershipRepository.added(userId, productId);
+        log.debug("Like created - userId: {}, productId: {}", userId, productId);
+
+        //사용자 행동 모니터링
+        eventPublisher.publishEvent(new UserActionEvent(userId, new Object(){}.getClass().getEnclosingMethod().getName(), productId));
+        eventPublisher.publishEvent(new LikeEvent(this, userId, productId, true));
     }
 
     /**
-     * 좋아요 삭제 및 LikeSummary 업데이트 (원자적 연산)
+     * 좋아요 삭제 - 삭제된 행 수로 좋아요가 없던 상태인지 판단 (예외/재시도 없음)
      */
     @Transactional
     private void deleteLikeAndUpdateSummary(String userId, String productId) {
-        int maxRetries = 3;
-        int retryCount = 0;
-        
-        while (retryCount < maxRetries) {
-            try {
-                //사용자 행동 모니터링
-                eventPublisher.publishEvent(new UserActionEvent(userId, new Object(){}.getClass().getEnclosingMethod().getName(), productId));
-
-                // 1. 좋아요 삭제
-                likeRepository.deleteByProductIdAndUserId(userId, productId);
-                log.debug("Like deleted - userId: {}, productId: {}", userId, productId);
-
-                // 2. 이벤트 비동기 처리
-                log.debug("이벤트 발행 시작 - productId: {}, userId: {}, increment: {}", productId, userId, false);
-                eventPublisher.publishEvent(new LikeEvent(this, userId, productId, false));
-                log.debug("이벤트 발행 완료 - productId: {}, userId: {}", productId, userId);
-                
-                return; // 성공하면 종료
-
-            } catch (DeadlockLoserDataAccessException | DataIntegrityViolationException e) {
-                retryCount++;
-                if (retryCount >= maxRetries) {
-                    log.warn("Like cancellation failed after {} retries for userId: {}, productId: {}, error: {}", 
-                        maxRetries, userId, productId, e.getMessage());
-                    throw e;
-                }
-                log.debug("Retrying like cancellation for userId: {}, productId: {}, attempt: {}", 
-                    userId, productId, retryCount);
-                try {
-                    Thread.sleep(100 * retryCount); // 지수 백오프
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Interrupted during retry", ie);
-                }
-            }
+        int deleted = likeRepository.deleteByProductIdAndUserId(userId, productId);
+        if (deleted == 0) {
+            log.debug("Like does not exist - userId: {}, productId: {}", userId, productId);
+            return;
         }
+        likeMembershipRepository.removed(userId, productId);
+        log.debug("Like deleted - userId: {}, productId: {}", userId, productId);
+
+        //사용자 행동 모니터링
+        eventPublisher.publishEvent(new UserActionEvent(userId, new Object(){}.getClass().getEnclosingMethod().getName(), productId));
+        eventPublisher.publishEvent(new LikeEvent(this, userId, productId, false));
     }
 
     /**
@@ -179,6 +131,7 @@ public class LikeService {
                 // 1. 새로운 좋아요 생성
                 Like newLike = new Like(productId, userId);
                 likeRepository.save(newLike);
+                likeMembershipRepository.added(userId, productId);
                 log.debug("Like created (optimistic) - userId: {}, productId: {}", userId, productId);
 
                 // 2. LikeSummary 낙관적 업데이트
@@ -262,7 +215,12 @@ public class LikeService {
      */
     @Transactional
     public LikeSummary likeSummaryByProductId(String productId){
-        return likeSummaryRepository.likeSummaryByProductId(productId);
+        LikeSummary likeSummary = likeSummaryRepository.likeSummaryByProductId(productId);
+        long pending = likeDeltaRepository.pendingDeltas(List.of(productId)).getOrDefault(productId, 0L);
+        if (pending == 0) {
+            return likeSummary;
+        }
+        return new LikeSummary(productId, Math.max(likeSummary.getLikesCount() + pending, 0L));
     }
 
     /**
@@ -273,7 +231,24 @@ public class LikeService {
      */
     @Transactional(readOnly = true)
     public Boolean likeExist(String userId, String productId){
-        return likeRepository.existsByUserIdAndProductId(userId, productId);
+        return likedBy(userId, List.of(productId)).get(productId);
+    }
+
+    /**
+     * 여러 상품에 대한 좋아요 여부 확인 (productId -> liked)
+     * @param userId
+     * @param productIds
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Boolean> likedBy(String userId, List<String> productIds){
+        Map<String, Boolean> liked = likeMembershipRepository.likedBy(userId, productIds);
+        if (likeToggleCoalescer.isEnabled()) {
+            // 아직 반영되지 않은 토글의 최종 상태 우선
+            productIds.forEach(productId -> likeToggleCoalescer.pendingState(userId, productId)
+                .ifPresent(state -> liked.put(productId, state)));
+        }
+        return liked;
     }
 
     /**
@@ -283,19 +258,39 @@ public class LikeService {
      */
     @Transactional(readOnly = true)
     public Long LikeSummaryCountByProductId(String productId){
-        return likeSummaryRepository.LikeSummaryCountByProductId(productId);
+        Long count = likeSummaryRepository.LikeSummaryCountByProductId(productId);
+        long pending = likeDeltaRepository.pendingDeltas(List.of(productId)).getOrDefault(productId, 0L);
+        return Math.max(count + pending, 0L);
     }
 
+    /**
+     * 여러 상품의 좋아요 갯수 조회 (like_summary + 아직 반영되지 않은 증감분)
+     */
     @Transactional(readOnly = true)
     public Map<String, Long> findLikeSummaryByProductCodes(List<String> productId){
 
         List<LikeSummary> likeSummaryList = likeSummaryRepository.findByProductCodes(productId);
-        return likeSummaryList.stream()
+        Map<String, Long> likeCounts = likeSummaryList.stream()
             .collect(
                 java.util.stream.Collectors.toMap(
                     LikeSummary::getProductId,
                     LikeSummary::getLikesCount
                 )
             );
+
+        likeDeltaRepository.pendingDeltas(productId)
+            .forEach((id, delta) -> likeCounts.put(id, Math.max(likeCounts.getOrDefault(id, 0L) + delta, 0L)));
+        return likeCounts;
+    }
+
+    /**
+     * 여러 상품의 좋아요 갯수 조회 (캐시 + 아직 반영되지 않은 증감분)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> findLikeCountsWithCache(List<String> productIds){
+        Map<String, Long> likeCounts = new LinkedHashMap<>(likeSummaryRepository.findLikeCountsWithCache(productIds, Duration.ofMinutes(1)));
+        likeDeltaRepository.pendingDeltas(productIds)
+            .forEach((id, delta) -> likeCounts.put(id, Math.max(likeCounts.getOrDefault(id, 0L) + delta, 0L)));
+        return likeCounts;
     }
 }
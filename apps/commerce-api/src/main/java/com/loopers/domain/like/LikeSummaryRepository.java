@@ -1,6 +1,8 @@
 package com.loopers.domain.like;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface LikeSummaryRepository {
@@ -36,4 +38,16 @@ public interface LikeSummaryRepository {
      * 여러 상품의 LikeSummary를 여러건 조회
      */
     List<LikeSummary> findByProductCodes(List<String> productCodes);
+
+    /**
+     * 좋아요 증감분 일괄 반영 (없는 상품은 생성, 0 미만으로 내려가지 않음)
+     * @param deltas productId -> delta
+     */
+    void applyDeltas(Map<String, Long> deltas);
+
+    /**
+     * 여러 상품의 좋아요 갯수 조회 (캐시 미스만 IN 쿼리로 조회, 반영 시 무효화)
+     * @return productId -> likesCount (없는 상품은 0)
+     */
+    Map<String, Long> findLikeCountsWithCache(List<String> productCodes, Duration ttl);
 }
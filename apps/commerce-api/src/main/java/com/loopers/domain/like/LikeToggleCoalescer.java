@@ -0,0 +1,96 @@
+package com.loopers.domain.like;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 짧은 구간 안의 좋아요/취소 토글을 (userId, productId)별 최종 상태 하나로 합친다.
+ * 구간이 끝나면 최종 상태만 반영한다 - INSERT IGNORE/DELETE라 이미 같은 상태면 DB 행도 카운트도 바뀌지 않는다.
+ */
+@Component
+@Slf4j
+public class LikeToggleCoalescer {
+    private final boolean enabled;
+    private final ConcurrentHashMap<LikeKey, Boolean> pending = new ConcurrentHashMap<>();
+    private final Counter receivedCounter;
+    private final Counter appliedCounter;
+    private final Counter mergedCounter;
+
+    public LikeToggleCoalescer(
+        MeterRegistry meterRegistry,
+        @Value("${like.coalescing.enabled:false}") boolean enabled
+    ) {
+        this.enabled = enabled;
+        this.receivedCounter = Counter.builder("like.coalescer.received")
+            .description("합치기 전 좋아요/취소 요청 수")
+            .register(meterRegistry);
+        this.appliedCounter = Counter.builder("like.coalescer.applied")
+            .description("합친 뒤 DB에 반영한 최종 상태 수")
+            .register(meterRegistry);
+        this.mergedCounter = Counter.builder("like.coalescer.merged")
+            .description("같은 구간의 이후 요청에 덮어써져 반영하지 않은 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("like.coalescer.ratio", this, LikeToggleCoalescer::coalescingRatio)
+            .description("요청 대비 DB 반영 비율 (낮을수록 많이 합쳐짐)")
+            .register(meterRegistry);
+        Gauge.builder("like.coalescer.pending", pending, ConcurrentHashMap::size)
+            .description("반영 대기 중인 (userId, productId) 수")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 원하는 최종 상태 기록 (같은 구간의 이전 요청은 덮어씀)
+     */
+    public void submit(String userId, String productId, boolean liked) {
+        receivedCounter.increment();
+        if (pending.put(new LikeKey(userId, productId), liked) != null) {
+            mergedCounter.increment();
+        }
+    }
+
+    /**
+     * 반영 대기 중인 최종 상태 (없으면 empty)
+     */
+    public Optional<Boolean> pendingState(String userId, String productId) {
+        return Optional.ofNullable(pending.get(new LikeKey(userId, productId)));
+    }
+
+    /**
+     * 구간 동안 쌓인 토글을 꺼내 (userId, productId)별 최종 상태로 반환
+     */
+    public List<LikeToggle> drain() {
+        List<LikeToggle> changes = new ArrayList<>();
+        for (LikeKey key : pending.keySet()) {
+            Boolean liked = pending.remove(key);
+            if (liked == null) {
+                continue;
+            }
+            changes.add(new LikeToggle(key.userId(), key.productId(), liked));
+        }
+        appliedCounter.increment(changes.size());
+        return changes;
+    }
+
+    private double coalescingRatio() {
+        double received = receivedCounter.count();
+        return received == 0 ? 1.0 : appliedCounter.count() / received;
+    }
+
+    public record LikeToggle(String userId, String productId, boolean liked) {
+    }
+
+    private record LikeKey(String userId, String productId) {
+    }
+}
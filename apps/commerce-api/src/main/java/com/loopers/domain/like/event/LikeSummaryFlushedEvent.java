@@ -0,0 +1,18 @@
+package com.loopers.domain.like.event;
+
+import java.util.Set;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 좋아요 증감분이 like_summary에 반영됨
+ */
+@Getter
+public class LikeSummaryFlushedEvent extends ApplicationEvent {
+    private final Set<String> productIds;
+
+    public LikeSummaryFlushedEvent(Object source, Set<String> productIds) {
+        super(source);
+        this.productIds = productIds;
+    }
+}
@@ -0,0 +1,113 @@
+package com.loopers.domain.like.event;
+
+import com.loopers.domain.like.LikeDeltaRepository;
+import com.loopers.domain.like.LikeSummaryRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 누적된 좋아요 증감분 -> like_summary 배치 반영
+ * flush-interval마다, 또는 증감이 flush-batch-size건 쌓이면 반영한다.
+ */
+@Component
+@Slf4j
+public class LikeSummaryFlusher {
+    private static final Duration IMMEDIATE_LOCK_WAIT = Duration.ofSeconds(5);
+
+    private final LikeDeltaRepository likeDeltaRepository;
+    private final LikeSummaryRepository likeSummaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor taskExecutor;
+    private final boolean flushImmediately;
+    private final long flushBatchSize;
+    private final AtomicLong recordedSinceFlush = new AtomicLong();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    public LikeSummaryFlusher(
+        LikeDeltaRepository likeDeltaRepository,
+        LikeSummaryRepository likeSummaryRepository,
+        ApplicationEventPublisher eventPublisher,
+        @Qualifier("taskExecutor") Executor taskExecutor,
+        @Value("${like.summary.flush-immediately:false}") boolean flushImmediately,
+        @Value("${like.summary.flush-batch-size:1000}") long flushBatchSize
+    ) {
+        this.likeDeltaRepository = likeDeltaRepository;
+        this.likeSummaryRepository = likeSummaryRepository;
+        this.eventPublisher = eventPublisher;
+        this.taskExecutor = taskExecutor;
+        this.flushImmediately = flushImmediately;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    /**
+     * 증감분이 누적된 뒤 호출 - 즉시 반영 모드이거나 배치 크기에 도달하면 반영
+     */
+    public void onRecorded() {
+        if (flushImmediately) {
+            flushNow();
+            return;
+        }
+        if (recordedSinceFlush.incrementAndGet() < flushBatchSize || !flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushScheduled.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 주기 flush에서 반영
+            flushScheduled.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${like.summary.flush-interval:1s}")
+    public void flush() {
+        flush(Duration.ZERO);
+    }
+
+    /**
+     * 즉시 반영 모드 - 진행 중인 flush가 끝날 때까지 기다렸다가 반영
+     */
+    public void flushNow() {
+        flush(IMMEDIATE_LOCK_WAIT);
+    }
+
+    /**
+     * 종료 시 남은 증감분 반영 (인메모리 버퍼 유실 방지)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 like_summary 반영");
+        flushNow();
+    }
+
+    private void flush(Duration lockWait) {
+        recordedSinceFlush.set(0);
+        try {
+            Map<String, Long> flushed = likeDeltaRepository.flush(likeSummaryRepository::applyDeltas, lockWait);
+            if (flushed.isEmpty()) {
+                return;
+            }
+            log.debug("like_summary 반영 - 대상: {}", flushed.size());
+            eventPublisher.publishEvent(new LikeSummaryFlushedEvent(this, flushed.keySet()));
+        } catch (Exception e) {
+            // 꺼낸 증감분은 저장소에 남아 있으므로 다음 주기에 다시 반영
+            log.warn("like_summary 반영 실패 - error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.loopers.domain.like.event;
+
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.like.LikeToggleCoalescer;
+import com.loopers.domain.like.LikeToggleCoalescer.LikeToggle;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 합쳐진 좋아요 토글의 최종 상태를 likes에 반영 (like.coalescing.enabled=true일 때)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeToggleFlusher {
+    private final LikeToggleCoalescer likeToggleCoalescer;
+    private final LikeService likeService;
+
+    @Scheduled(fixedDelayString = "${like.coalescing.window:200ms}")
+    public void flush() {
+        if (!likeToggleCoalescer.isEnabled()) {
+            return;
+        }
+        List<LikeToggle> changes = likeToggleCoalescer.drain();
+        for (LikeToggle change : changes) {
+            try {
+                likeService.applyLikeState(change.userId(), change.productId(), change.liked());
+            } catch (Exception e) {
+                log.warn("좋아요 토글 반영 실패 - userId: {}, productId: {}, error: {}",
+                    change.userId(), change.productId(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -2,6 +2,7 @@ package com.loopers.domain.order;
 
 import com.loopers.domain.BaseEntity;
 import com.loopers.domain.domainEnum.OrderStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.repository.query.Param;
@@ -15,6 +16,16 @@ public interface OrderRepository {
      */
      Order save(Order order);
 
+    /**
+     * 주문/주문상세 일괄 저장 (JDBC batch - 호출한 트랜잭션 안에서 실행)
+     */
+    void insertAll(List<Order> orders);
+
+    /**
+     * 주문번호 목록으로 주문 조회
+     */
+    List<Order> findAllByOrderNos(Collection<String> orderNos);
+
     /**
      * 주문서 조회
      */
@@ -5,6 +5,7 @@ import com.loopers.domain.domainEnum.OrderStatus;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +40,25 @@ public class OrderService {
         return OrderInfo.of(savedOrder);
     }
 
+    /**
+     * 주문 일괄 저장 (호출한 트랜잭션 안에서 JDBC batch로 저장)
+     * @param orders 주문 객체 목록
+     */
+    @Transactional
+    public void placeOrders(List<Order> orders) {
+        orders.forEach(this::validateOrder);
+        orderRepository.insertAll(orders);
+        log.info("주문이 일괄 생성되었습니다. 건수: {}", orders.size());
+    }
+
+    /**
+     * 주문번호 목록으로 주문 조회
+     */
+    @Transactional(readOnly = true)
+    public List<Order> findOrdersByOrderNos(Collection<String> orderNos) {
+        return orderRepository.findAllByOrderNos(orderNos);
+    }
+
     /**
      * 주문 상태 업데이트
      * @param orderNo 주문번호
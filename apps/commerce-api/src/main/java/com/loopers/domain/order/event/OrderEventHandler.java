@@ -13,8 +13,11 @@ import com.loopers.domain.order.OrderService;
 import com.loopers.domain.payment.PaymentInfo;
 import com.loopers.domain.payment.PaymentService;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.StockReservationRepository.ConfirmResult;
+import com.loopers.domain.product.StockReservationService;
 import com.loopers.domain.user.event.UserActionEvent;
 import java.math.BigDecimal;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
@@ -32,6 +35,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class OrderEventHandler {
     private final PaymentService paymentService;
     private final ProductService productService;
+    private final StockReservationService stockReservationService;
     private final OrderService orderService;
     private final CardService cardService;
     private final CouponService couponService;
@@ -118,7 +122,8 @@ public class OrderEventHandler {
                 orderService.updateOrderStatus(orderInfo.getOrderNo(), orderInfo.getUserId(), OrderStatus.ORDER_PAID);
                 log.info("결제 성공 - 재고 차감 및 주문 상태 업데이트 완료 - orderNo: {}", orderInfo.getOrderNo());
             } else {
-                // 결제 실패 시 주문 상태만 업데이트
+                // 결제 실패 시 재고 예약 해제 및 주문 상태 업데이트
+                releaseReservedStock(orderInfo);
                 orderService.updateOrderStatus(orderInfo.getOrderNo(), orderInfo.getUserId(), OrderStatus.ORDER_PAID);
                 log.warn("결제 실패 - 주문 상태 업데이트 완료 - orderNo: {}", orderInfo.getOrderNo());
             }
@@ -169,9 +174,27 @@ public class OrderEventHandler {
         }
     }
 
+    /**
+     * 재고 차감 (재고 예약을 사용하면 예약 확정 - products 반영은 확정분 배치 flush에서 처리)
+     * 예약이 이미 만료/해제되었으면 DB 재고에서 바로 차감하고, PG 콜백에서 이미 처리했으면 차감하지 않는다.
+     */
     public void updateProductStock(Order order) {
-        for (OrderDetail item : order.getOrderDetailList()) {
-            productService.updateStock(item.getProductId(), item.getQuantity(), OrderStatus.ORDER_PLACED);
+        if (stockReservationService.isEnabled()) {
+            if (stockReservationService.confirm(order.getOrderNo()) != ConfirmResult.EXPIRED) {
+                return;
+            }
+            log.warn("재고 예약이 만료되어 DB 재고에서 차감 - orderNo: {}", order.getOrderNo());
+        }
+        productService.decreaseStockBatch(order.getOrderDetailList().stream()
+            .collect(Collectors.toMap(OrderDetail::getProductId, OrderDetail::getQuantity, Long::sum)));
+    }
+
+    /**
+     * 재고 예약 해제 (결제 실패)
+     */
+    private void releaseReservedStock(Order order) {
+        if (stockReservationService.isEnabled()) {
+            stockReservationService.release(order.getOrderNo());
         }
     }
 
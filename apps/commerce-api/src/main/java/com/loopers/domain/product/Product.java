@@ -3,7 +3,9 @@ package com.loopers.domain.product;
 import com.loopers.domain.BaseEntity;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
@@ -14,7 +16,14 @@ import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
 
 @Entity
-@Table(name = "products")
+@Table(
+    name = "products",
+    indexes = {
+        @Index(name = "idx_products_brand_like", columnList = "brand, use_yn, like_count, code"),
+        @Index(name = "idx_products_brand_price", columnList = "brand, use_yn, price, code"),
+        @Index(name = "idx_products_brand_latest", columnList = "brand, use_yn, created_at, code")
+    }
+)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -36,6 +45,13 @@ public class Product extends BaseEntity {
     private String category3;
     private Boolean useYn;
 
+    /**
+     * like_summary 비정규화 값 (목록 정렬용, 배치로 동기화)
+     */
+    @Builder.Default
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount = 0L;
+
     /**
      * ProductCommand로부터 Product 생성
      */
@@ -124,6 +140,26 @@ public class Product extends BaseEntity {
             .build();
     }
 
+    /**
+     * 영속성 컨텍스트와 분리된 사본 (캐시에 공유 인스턴스를 넣거나 꺼내지 않도록 사용)
+     */
+    public Product copy() {
+        return Product.builder()
+            .code(code)
+            .name(name)
+            .price(price)
+            .quantity(quantity)
+            .imgURL(imgURL)
+            .description(description)
+            .brand(brand)
+            .category1(category1)
+            .category2(category2)
+            .category3(category3)
+            .useYn(useYn)
+            .likeCount(likeCount)
+            .build();
+    }
+
     // ===== 검증 메소드들 =====
 
     private static void validateProductCommand(ProductCommand productCommand) {
@@ -0,0 +1,77 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 상품 목록 keyset 페이징 커서 (마지막 상품의 정렬 키 + code)
+ * 외부에는 "sortBy|sortKey|code"를 Base64(URL-safe)로 인코딩한 문자열로만 노출한다.
+ */
+public record ProductCursor(SortBy sortBy, String sortKey, String code) {
+    private static final String DELIMITER = "|";
+
+    /**
+     * 조회된 마지막 상품으로 다음 커서 생성
+     */
+    public static ProductCursor of(SortBy sortBy, Product product, Long likeCount) {
+        String sortKey = switch (sortBy) {
+            case LIKE_ASC, LIKE_DESC -> String.valueOf(likeCount != null ? likeCount : 0L);
+            case PRICE_ASC, PRICE_DESC -> product.getPrice().toPlainString();
+            case LATEST -> product.getCreatedAt().toString();
+        };
+        return new ProductCursor(sortBy, sortKey, product.getCode());
+    }
+
+    /**
+     * 커서 문자열 해석 (비어있으면 첫 페이지로 보고 null 반환)
+     */
+    public static ProductCursor decode(String cursor, SortBy sortBy) {
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = StringUtils.splitPreserveAllTokens(decoded, DELIMITER, 3);
+            if (parts.length != 3 || StringUtils.isEmpty(parts[2])) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다");
+            }
+            ProductCursor productCursor = new ProductCursor(SortBy.valueOf(parts[0]), parts[1], parts[2]);
+            if (productCursor.sortBy() != sortBy) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "커서의 정렬 조건이 요청과 다릅니다");
+            }
+            // 정렬 키 형식 검증
+            switch (sortBy) {
+                case LIKE_ASC, LIKE_DESC -> productCursor.likeCount();
+                case PRICE_ASC, PRICE_DESC -> productCursor.price();
+                case LATEST -> productCursor.createdAt();
+            }
+            return productCursor;
+        } catch (CoreException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다");
+        }
+    }
+
+    public String encode() {
+        String raw = sortBy.name() + DELIMITER + sortKey + DELIMITER + code;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Long likeCount() {
+        return Long.parseLong(sortKey);
+    }
+
+    public BigDecimal price() {
+        return new BigDecimal(sortKey);
+    }
+
+    public ZonedDateTime createdAt() {
+        return ZonedDateTime.parse(sortKey);
+    }
+}
@@ -40,7 +40,7 @@ public class ProductInfo {
             product.getCategory1(),
             product.getCategory2(),
             product.getCategory3(),
-            0L
+            product.getLikeCount() != null ? product.getLikeCount() : 0L
         );
     }
 }
@@ -0,0 +1,10 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 랭킹(ZSET)에서 조회한 페이지 - 정렬된 상품코드, 랭킹의 좋아요 수, 브랜드 전체 상품 수
+ */
+public record ProductRankingPage(List<String> productIds, Map<String, Long> likeCounts, long totalElements) {
+}
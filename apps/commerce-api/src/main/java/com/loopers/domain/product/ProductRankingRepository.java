@@ -0,0 +1,30 @@
+package com.loopers.domain.product;
+
+import java.util.Optional;
+
+/**
+ * 브랜드별 상품 랭킹 (정렬 순서를 미리 계산해둔 저장소)
+ * 랭킹이 아직 만들어지지 않은 브랜드는 증분 반영을 무시하고, 조회 시 empty를 반환한다.
+ */
+public interface ProductRankingRepository {
+
+    /**
+     * 랭킹으로 조회 가능한 정렬 조건인지
+     */
+    boolean supports(SortBy sortBy);
+
+    /**
+     * 정렬 순서대로 상품코드 조회 (상품이 없는 것으로 확인된 브랜드는 빈 페이지)
+     */
+    Optional<ProductRankingPage> findPage(String brandCode, SortBy sortBy, int page, int size);
+
+    /**
+     * 좋아요 수 증감 반영
+     */
+    void incrementLikeCount(String brandCode, String productId, long delta);
+
+    /**
+     * 상품 추가/가격 변경 반영
+     */
+    void upsert(Product product);
+}
@@ -1,10 +1,13 @@
 package com.loopers.domain.product;
 
 
+import com.loopers.application.product.ProductCursorResult;
 import com.loopers.application.product.ProductPageResult;
 import com.loopers.domain.domainEnum.OrderStatus;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -29,11 +32,21 @@ public interface ProductRepository {
      */
     Page<Object[]> findProductListByBrandCode(String brandCode, SortBy sortBy, Pageable pageable);
 
+    /**
+     * 커서(keyset) 기반 상품목록 조회 (cursor가 null이면 첫 페이지)
+     */
+    ProductCursorResult findProductListByBrandCodeAfter(String brandCode, SortBy sortBy, ProductCursor cursor, int size);
+
     /**
      * 캐시에서 Product 조회 (캐시 미스 시 supplier 호출)
      */
     Product findProductWithCache(String productId, Duration ttl);
 
+    /**
+     * 캐시에서 Product 목록 조회 (캐시 미스는 한 번에 DB 조회)
+     */
+    Map<String, Product> findProductsWithCache(List<String> productIds, Duration ttl);
+
     /**
      * 캐시에서 Product Page 조회 (캐시 미스 시 supplier 호출)
      */
@@ -45,11 +58,25 @@ public interface ProductRepository {
     Product save(Product product);
 
     /**
-     * 주문/취소한 수량만큼 재고 업데이트
+     * 주문/취소한 수량만큼 재고 업데이트 (SELECT ... FOR UPDATE 후 수정)
      * @param productId
      * @param quantity
      */
-    void updateProduct(String productId, Long quantity, OrderStatus orderStatus);
+    void updateProductPessimistic(String productId, Long quantity, OrderStatus orderStatus);
+
+    /**
+     * 주문/취소한 수량만큼 재고 업데이트 (조건부 UPDATE 한 번, 행 락은 문장 실행 동안만 유지)
+     * @return 반영 여부 (주문 시 재고가 부족하거나 상품이 없으면 false)
+     */
+    boolean updateStock(String productId, Long quantity, OrderStatus orderStatus);
+
+    /**
+     * 여러 상품 재고 한 번에 차감 (상품코드 순 조건부 UPDATE를 JDBC batch 한 번으로 전송 - 행 락 순서가 같아 교착 없음)
+     * @param quantities productId -> 수량
+     * 드라이버가 반영 건수를 알려주지 않으면(SUCCESS_NO_INFO) 차감 여부를 알 수 없으므로 INTERNAL_ERROR로 롤백한다.
+     * @return 상품코드 순 상품별 반영 여부 (재고가 부족하거나 상품이 없으면 false)
+     */
+    Map<String, Boolean> decreaseStockBatch(Map<String, Long> quantities);
 
     /**
      * 상품 리스트 저장
@@ -63,8 +90,18 @@ public interface ProductRepository {
      */
     public int count();
 
+    /**
+     * like_summary 값을 상품의 like_count에 반영
+     */
+    int syncLikeCount(Collection<String> productIds);
+
+    /**
+     * 상품코드 순으로 after 다음 상품코드 조회 (전체 상품 순회용)
+     */
+    List<String> findCodesAfter(String after, int limit);
+
     /**
      * 캐시 무효화
      */
-    void invalidateProductCache(String productId);
+    void invalidateProductCache(String productId, String brandCode);
 }
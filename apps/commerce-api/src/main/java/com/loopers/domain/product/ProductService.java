@@ -1,22 +1,35 @@
 package com.loopers.domain.product;
 
+import com.loopers.application.product.ProductCursorResult;
 import com.loopers.application.product.ProductPageResult;
 import com.loopers.domain.domainEnum.OrderStatus;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProductService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
     private final ProductRepository productRepository;
+    private final ProductRankingRepository productRankingRepository;
+    private final ProductStockBucketService productStockBucketService;
+    private final StockReservationRepository stockReservationRepository;
 
     /**
      * product 생성(upsert)
@@ -24,10 +37,19 @@ public class ProductService {
     @Transactional
     public void createProduct(ProductCommand productCommand){
         Product product = ProductCommand.toProduct(productCommand);
+        Product existing = productRepository.findProduct(product.getCode());
         productRepository.save(product);
 
+        // 입고/재고 수정분을 재고 예약 미러에 반영
+        if (existing != null && !Objects.equals(existing.getQuantity(), product.getQuantity())) {
+            adjustReservedStockAfterCommit(Map.of(product.getCode(), product.getQuantity() - existing.getQuantity()));
+        }
+
         // 캐시 무효화
-        productRepository.invalidateProductCache(product.getCode());
+        productRepository.invalidateProductCache(product.getCode(), product.getBrand());
+
+        // 랭킹 반영 (랭킹이 만들어진 브랜드만)
+        productRankingRepository.upsert(product);
     }
 
     /**
@@ -41,17 +63,188 @@ public class ProductService {
             throw new CoreException(ErrorType.NOT_FOUND, "검색하려는 물품이 없습니다");
         }
 
-        return ProductInfo.from(product);
+        ProductInfo productInfo = ProductInfo.from(product);
+        addBucketQuantities(List.of(productInfo));
+        return productInfo;
     }
 
 
     /**
-     * 주문 상품 처리
+     * 물품 목록 조회 (productId -> ProductInfo)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, ProductInfo> findProducts(List<String> productIds){
+        List<String> distinctIds = productIds.stream().distinct().toList();
+        Map<String, Product> products = productRepository.findProductsWithCache(distinctIds, Duration.ofMinutes(1));
+
+        if(products.size() < distinctIds.size()){
+            throw new CoreException(ErrorType.NOT_FOUND, "검색하려는 물품이 없습니다");
+        }
+
+        Map<String, ProductInfo> productInfos = new LinkedHashMap<>();
+        products.forEach((productId, product) -> productInfos.put(productId, ProductInfo.from(product)));
+        addBucketQuantities(productInfos.values());
+        return productInfos;
+    }
+
+    /**
+     * 주문 상품 처리 (조건부 UPDATE 한 번으로 재고 확인과 차감을 함께 처리)
      * @param productId
      * @param quantity
      */
     @Transactional
     public void updateStock(String productId, Long quantity, OrderStatus orderStatus){
+        boolean decrease = decreasesStock(orderStatus);
+        if (!applyStock(productId, quantity, orderStatus, decrease)) {
+            // 반영되지 않은 경우에만 원인 확인 (상품 없음 / 재고 부족)
+            if (productRepository.findProduct(productId) == null) {
+                throw new CoreException(ErrorType.NOT_FOUND, "주문하려는 물품코드가 없습니다");
+            }
+            throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다");
+        }
+        adjustReservedStockAfterCommit(Map.of(productId, decrease ? -quantity : quantity));
+    }
+
+    private boolean applyStock(String productId, Long quantity, OrderStatus orderStatus, boolean decrease) {
+        boolean bucketed = productStockBucketService.isBucketed(productId);
+        if (decrease && bucketed) {
+            // 남은 products.quantity까지 bucket 서비스가 잠금 순서(products -> bucket)를 지켜 차감
+            return productStockBucketService.decrease(productId, quantity);
+        }
+        if (productRepository.updateStock(productId, quantity, orderStatus)) {
+            return true;
+        }
+        // 다른 노드에서 bucket으로 나뉜 상품일 수 있으므로 다시 확인
+        return decrease && !bucketed && productStockBucketService.reload(productId)
+            && productStockBucketService.decrease(productId, quantity);
+    }
+
+    /**
+     * 주문 상품 전체 재고 차감 (상품코드 순 batch 한 번 - 하나라도 실패하면 전체 롤백)
+     * @param quantities productId -> 수량
+     */
+    @Transactional
+    public void decreaseStockBatch(Map<String, Long> quantities) {
+        Map<String, Boolean> results = decreaseStockLines(quantities);
+        List<String> failed = results.entrySet().stream()
+            .filter(result -> !result.getValue())
+            .map(Map.Entry::getKey)
+            .toList();
+        if (failed.isEmpty()) {
+            // 예약을 거치지 않은 차감분을 재고 예약 미러에서도 차감
+            Map<String, Long> deltas = new TreeMap<>();
+            quantities.forEach((productId, quantity) -> deltas.put(productId, -quantity));
+            adjustReservedStockAfterCommit(deltas);
+            return;
+        }
+        for (String productId : failed) {
+            if (productRepository.findProduct(productId) == null) {
+                throw new CoreException(ErrorType.NOT_FOUND, "주문하려는 물품코드가 없습니다");
+            }
+        }
+        throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다: " + String.join(", ", failed));
+    }
+
+    /**
+     * 여러 상품 재고 차감 (bucket으로 나뉜 상품은 bucket에서, 나머지는 상품코드 순 batch 한 번으로 차감)
+     * @param quantities productId -> 수량
+     * @return 상품코드 순 상품별 반영 여부 (실패한 상품이 있어도 롤백하지 않음)
+     */
+    @Transactional
+    public Map<String, Boolean> decreaseStockLines(Map<String, Long> quantities) {
+        Map<String, Boolean> results = new TreeMap<>();
+        Map<String, Long> plain = new TreeMap<>();
+        new TreeMap<>(quantities).forEach((productId, quantity) -> {
+            if (!productStockBucketService.isBucketed(productId)) {
+                plain.put(productId, quantity);
+                return;
+            }
+            // bucket이 부족하면 products.quantity에 남은 재고(취소/입고분)까지 함께 차감
+            results.put(productId, productStockBucketService.decrease(productId, quantity));
+        });
+        productRepository.decreaseStockBatch(plain).forEach((productId, applied) ->
+            results.put(productId, applied
+                || (productStockBucketService.reload(productId) && productStockBucketService.decrease(productId, plain.get(productId)))));
+        return results;
+    }
+
+    /**
+     * 상품 재고를 bucket으로 나눔 (주문이 몰리는 상품을 운영 중에 전환)
+     * @param buckets null이면 기본 bucket 수
+     * @return 나눈 bucket 수
+     */
+    public int enableStockBuckets(String productId, Integer buckets) {
+        Product product = productRepository.findProduct(productId);
+        if (ObjectUtils.isEmpty(product)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "검색하려는 물품이 없습니다");
+        }
+        int count = productStockBucketService.enable(productId, buckets);
+        productRepository.invalidateProductCache(productId, product.getBrand());
+        return count;
+    }
+
+    /**
+     * bucket 재고를 products.quantity로 되돌림
+     * @return 되돌린 수량
+     */
+    public long disableStockBuckets(String productId) {
+        Product product = productRepository.findProduct(productId);
+        if (ObjectUtils.isEmpty(product)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "검색하려는 물품이 없습니다");
+        }
+        long merged = productStockBucketService.disable(productId);
+        productRepository.invalidateProductCache(productId, product.getBrand());
+        return merged;
+    }
+
+    /**
+     * bucket으로 나뉜 상품은 bucket 재고를 더해 전체 재고로 반환
+     */
+    private void addBucketQuantities(Collection<ProductInfo> productInfos) {
+        Map<String, Long> bucketQuantities = productStockBucketService.bucketQuantitiesWithCache(
+            productInfos.stream().map(ProductInfo::getCode).toList());
+        for (ProductInfo productInfo : productInfos) {
+            Long bucketQuantity = bucketQuantities.get(productInfo.getCode());
+            if (bucketQuantity != null) {
+                productInfo.setQuantity(productInfo.getQuantity() + bucketQuantity);
+            }
+        }
+    }
+
+    /**
+     * 커밋 후 DB 재고 변경분을 재고 예약 미러에 반영 (예약 확정분 flush는 미러에 이미 반영되어 있으므로 호출하지 않음)
+     */
+    private void adjustReservedStockAfterCommit(Map<String, Long> deltas) {
+        Runnable action = () -> {
+            try {
+                stockReservationRepository.adjustAvailable(deltas);
+            } catch (Exception e) {
+                log.warn("재고 예약 미러 반영 실패 - products: {}, error: {}", deltas.keySet(), e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static boolean decreasesStock(OrderStatus orderStatus) {
+        return orderStatus == OrderStatus.ORDER_PLACED || orderStatus == OrderStatus.ORDER_PAID;
+    }
+
+    /**
+     * 주문 상품 처리 (비관락 - SELECT ... FOR UPDATE 후 수정, 비교용으로 유지)
+     * @param productId
+     * @param quantity
+     */
+    @Transactional
+    public void updateStockPessimistic(String productId, Long quantity, OrderStatus orderStatus){
         ProductInfo productInfo = findProduct(productId);
 
         if(ObjectUtils.isEmpty(productInfo)){
@@ -60,7 +253,7 @@ public class ProductService {
         if(orderStatus.equals(OrderStatus.ORDER_PLACED) && productInfo.getQuantity() <= quantity){
             throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다");
         }
-        productRepository.updateProduct(productId, quantity, orderStatus);
+        productRepository.updateProductPessimistic(productId, quantity, orderStatus);
     }
 
     /**
@@ -72,4 +265,19 @@ public class ProductService {
             brandCode, sortBy, pageable, Duration.ofMinutes(1)
         );
     }
+
+    /**
+     * 브랜드로 상품 리스트 조회 (커서 기반, 조회 건수는 최대 MAX_CURSOR_PAGE_SIZE로 제한)
+     */
+    @Transactional(readOnly = true)
+    public ProductCursorResult findProductListByBrandCodeWithCursor(String brandCode, SortBy sortBy, String cursor, int size) {
+        if (size <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회 건수는 1 이상이어야 합니다");
+        }
+        int limit = Math.min(size, MAX_CURSOR_PAGE_SIZE);
+        SortBy actualSortBy = sortBy != null ? sortBy : SortBy.LIKE_DESC;
+        ProductCursor productCursor = ProductCursor.decode(cursor, actualSortBy);
+
+        return productRepository.findProductListByBrandCodeAfter(brandCode, actualSortBy, productCursor, limit);
+    }
 }
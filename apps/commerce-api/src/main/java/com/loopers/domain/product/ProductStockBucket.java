@@ -0,0 +1,48 @@
+package com.loopers.domain.product;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문이 몰리는 상품의 재고 분할 행 (product_id, bucket_no)
+ * 상품의 재고 = products.quantity + 모든 bucket의 합
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+    name = "product_stock_bucket",
+    uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_bucket", columnNames = {"product_id", "bucket_no"})
+)
+public class ProductStockBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private String productId;
+
+    @Column(name = "bucket_no", nullable = false)
+    private Integer bucketNo;
+
+    @Column(nullable = false)
+    private Long quantity;
+
+    public ProductStockBucket(String productId, Integer bucketNo, Long quantity) {
+        this.productId = productId;
+        this.bucketNo = bucketNo;
+        this.quantity = quantity;
+    }
+
+    public void changeQuantity(Long quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,68 @@
+package com.loopers.domain.product;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+public interface ProductStockBucketRepository {
+
+    /**
+     * bucket으로 나뉜 상품별 bucket 수
+     */
+    Map<String, Integer> findBucketCounts();
+
+    /**
+     * 상품의 bucket 수 (나뉘지 않은 상품이면 0)
+     */
+    int countBuckets(String productId);
+
+    /**
+     * bucket_no 순 bucket별 재고 (잠그지 않는 조회 - 차감할 bucket 선택용)
+     */
+    Map<Integer, Long> findQuantities(String productId);
+
+    /**
+     * bucket 하나에서 조건부 차감
+     * @return 반영 여부 (bucket 재고가 부족하면 false)
+     */
+    boolean decrease(String productId, int bucketNo, long quantity);
+
+    /**
+     * 전체 bucket을 잠그고 여러 bucket에 나눠 차감 (bucket 하나로는 부족할 때)
+     * @return 반영 여부 (bucket 합계가 부족하면 false)
+     */
+    boolean decreaseAcross(String productId, long quantity);
+
+    /**
+     * products 행 -> 전체 bucket 순으로 잠그고 products.quantity에 남은 재고(취소/입고분)부터 차감 (bucket 합계로는 부족할 때)
+     * @return 반영 여부 (남은 재고 + bucket 합계가 부족하면 false)
+     */
+    boolean decreaseWithResidual(String productId, long quantity);
+
+    /**
+     * 상품별 bucket 재고 합계 (나뉘지 않은 상품은 제외)
+     */
+    Map<String, Long> sumByProductIds(Collection<String> productIds);
+
+    /**
+     * 상품별 bucket 재고 합계 (캐시 미스만 GROUP BY 조회 - 조회 응답용, split/merge/rebalance 시 삭제)
+     */
+    Map<String, Long> sumByProductIdsWithCache(Collection<String> productIds, Duration ttl);
+
+    /**
+     * products.quantity를 bucket 수만큼 나눠 옮김
+     */
+    void split(String productId, int buckets);
+
+    /**
+     * bucket 재고를 products.quantity로 되돌리고 bucket 삭제
+     * @return 되돌린 수량
+     */
+    long merge(String productId);
+
+    /**
+     * products.quantity에 남은 재고(취소/입고분)까지 모아 bucket에 고르게 재분배
+     * @return 재분배 여부 (이미 고르면 false)
+     */
+    boolean rebalance(String productId);
+}
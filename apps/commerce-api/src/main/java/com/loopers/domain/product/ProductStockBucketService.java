@@ -0,0 +1,183 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문이 몰리는 상품의 재고를 K개 bucket 행으로 나눠 차감 (products 한 행에 행 락이 몰리지 않도록)
+ * 차감은 재고가 충분한 bucket 중 임의의 하나에서 하고, 하나로 부족하면 전체 bucket을 bucket_no 순으로 잠가 나눠 차감한다.
+ * bucket으로 나눈 상품 목록은 노드마다 주기적으로 다시 읽는다.
+ */
+@Service
+@Slf4j
+public class ProductStockBucketService {
+    private static final Duration SUM_CACHE_TTL = Duration.ofSeconds(10);
+
+    private final ProductStockBucketRepository productStockBucketRepository;
+    private final ProductRepository productRepository;
+    private final int defaultBuckets;
+    private final Map<String, Integer> bucketCounts = new ConcurrentHashMap<>();
+
+    public ProductStockBucketService(
+        ProductStockBucketRepository productStockBucketRepository,
+        ProductRepository productRepository,
+        @Value("${product.stock-bucket.default-count:8}") int defaultBuckets
+    ) {
+        this.productStockBucketRepository = productStockBucketRepository;
+        this.productRepository = productRepository;
+        this.defaultBuckets = defaultBuckets;
+    }
+
+    public boolean isBucketed(String productId) {
+        return bucketCounts.containsKey(productId);
+    }
+
+    /**
+     * bucket으로 나뉜 상품별 bucket 수
+     */
+    public Map<String, Integer> bucketCounts() {
+        return Map.copyOf(bucketCounts);
+    }
+
+    /**
+     * 상품 하나의 bucket 여부를 DB에서 다시 확인 (다른 노드에서 전환된 경우)
+     */
+    public boolean reload(String productId) {
+        int buckets = productStockBucketRepository.countBuckets(productId);
+        if (buckets > 0) {
+            bucketCounts.put(productId, buckets);
+            return true;
+        }
+        bucketCounts.remove(productId);
+        return false;
+    }
+
+    /**
+     * bucket 목록 재적재
+     */
+    @Scheduled(fixedDelayString = "${product.stock-bucket.refresh-interval:5s}")
+    public void refresh() {
+        try {
+            Map<String, Integer> counts = productStockBucketRepository.findBucketCounts();
+            bucketCounts.keySet().retainAll(counts.keySet());
+            bucketCounts.putAll(counts);
+        } catch (Exception e) {
+            log.warn("재고 bucket 목록 재적재 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * bucket 재고 차감
+     * 잠그지 않고 읽은 bucket별 재고로 차감 방법을 고른다.
+     * - 하나로 충분한 bucket이 있으면 그중 임의의 하나에서 조건부 차감
+     * - 합계만 충분하면 바로 전체 bucket을 bucket_no 순으로 잠가 나눠 차감
+     * - 합계로 부족하면 products 행 -> bucket 순으로 잠가 products.quantity에 남은 재고까지 차감
+     * 조건부 UPDATE는 실패해도 REPEATABLE READ에서 행 락이 남으므로, 실패한 뒤에는 더 큰 bucket_no로만 넘어가
+     * 한 트랜잭션의 잠금 순서가 항상 bucket_no 오름차순이 되게 한다 (decreaseAcross와 교착되지 않도록).
+     * @return 반영 여부 (bucket이 없거나 재고가 부족하면 false, 읽은 뒤 다른 주문이 먼저 가져간 경우 포함)
+     */
+    @Transactional
+    public boolean decrease(String productId, long quantity) {
+        if (!isBucketed(productId)) {
+            return false;
+        }
+        Map<Integer, Long> quantities = productStockBucketRepository.findQuantities(productId);
+        long bucketTotal = quantities.values().stream().mapToLong(Long::longValue).sum();
+        if (bucketTotal < quantity) {
+            return productStockBucketRepository.decreaseWithResidual(productId, quantity);
+        }
+        List<Integer> candidates = new ArrayList<>();
+        quantities.forEach((bucketNo, bucketQuantity) -> {
+            if (bucketQuantity >= quantity) {
+                candidates.add(bucketNo);
+            }
+        });
+        if (candidates.isEmpty()) {
+            return productStockBucketRepository.decreaseAcross(productId, quantity);
+        }
+        for (int i = ThreadLocalRandom.current().nextInt(candidates.size()); i < candidates.size(); i++) {
+            if (productStockBucketRepository.decrease(productId, candidates.get(i), quantity)) {
+                return true;
+            }
+        }
+        log.debug("bucket 재고 경합으로 차감 실패 - productId: {}, quantity: {}", productId, quantity);
+        return false;
+    }
+
+    /**
+     * 상품별 bucket 재고 합계 (bucket으로 나뉘지 않은 상품은 제외)
+     */
+    public Map<String, Long> bucketQuantities(Collection<String> productIds) {
+        List<String> bucketed = productIds.stream().filter(this::isBucketed).toList();
+        return bucketed.isEmpty() ? Map.of() : productStockBucketRepository.sumByProductIds(bucketed);
+    }
+
+    /**
+     * 상품별 bucket 재고 합계 - 캐시 사용 (상품 조회 응답용, 최대 10초 지연)
+     */
+    public Map<String, Long> bucketQuantitiesWithCache(Collection<String> productIds) {
+        List<String> bucketed = productIds.stream().filter(this::isBucketed).toList();
+        return bucketed.isEmpty() ? Map.of() : productStockBucketRepository.sumByProductIdsWithCache(bucketed, SUM_CACHE_TTL);
+    }
+
+    /**
+     * 상품 재고를 bucket으로 나눔 (buckets가 null이면 기본 bucket 수)
+     */
+    public int enable(String productId, Integer buckets) {
+        int count = buckets != null ? buckets : defaultBuckets;
+        if (count < 2) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "재고 bucket 수는 2 이상이어야 합니다");
+        }
+        if (reload(productId)) {
+            throw new CoreException(ErrorType.CONFLICT, "이미 재고 bucket으로 나뉜 상품입니다");
+        }
+        productStockBucketRepository.split(productId, count);
+        bucketCounts.put(productId, count);
+        log.info("재고 bucket 전환 - productId: {}, buckets: {}", productId, count);
+        return count;
+    }
+
+    /**
+     * bucket 재고를 products.quantity로 되돌림
+     */
+    public long disable(String productId) {
+        if (!reload(productId)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "재고 bucket으로 나뉜 상품이 아닙니다");
+        }
+        bucketCounts.remove(productId);
+        long merged = productStockBucketRepository.merge(productId);
+        log.info("재고 bucket 해제 - productId: {}, quantity: {}", productId, merged);
+        return merged;
+    }
+
+    /**
+     * bucket 간 재고 재분배 (취소/입고로 products.quantity에 쌓인 재고도 함께 옮김)
+     */
+    @Scheduled(fixedDelayString = "${product.stock-bucket.rebalance-interval:10s}")
+    public void rebalance() {
+        for (String productId : bucketCounts.keySet()) {
+            try {
+                if (productStockBucketRepository.rebalance(productId)) {
+                    // products.quantity에 남은 재고가 bucket으로 옮겨졌으므로 캐시된 상품 재고와 이중으로 더해지지 않게 삭제
+                    Product product = productRepository.findProduct(productId);
+                    productRepository.invalidateProductCache(productId, product != null ? product.getBrand() : null);
+                    log.debug("재고 bucket 재분배 - productId: {}", productId);
+                }
+            } catch (Exception e) {
+                log.warn("재고 bucket 재분배 실패 - productId: {}, error: {}", productId, e.getMessage());
+            }
+        }
+    }
+}
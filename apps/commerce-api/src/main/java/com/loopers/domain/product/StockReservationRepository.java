@@ -0,0 +1,73 @@
+package com.loopers.domain.product;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 재고 예약 저장소 (가용 재고 미러 = products.quantity - 확정 후 미반영분 - 진행 중 예약)
+ */
+public interface StockReservationRepository {
+
+    /**
+     * 주문의 모든 상품을 한 번에 예약 (하나라도 부족하면 아무것도 예약하지 않음)
+     * @param lines productId -> 수량
+     */
+    ReserveResult reserve(String reservationId, Map<String, Long> lines, Duration ttl);
+
+    /**
+     * 가용 재고 미러가 없는 상품만 적재
+     * @param quantities productId -> products.quantity
+     */
+    void loadIfAbsent(Map<String, Long> quantities);
+
+    /**
+     * DB 재고를 직접 바꾼 만큼 가용 재고 미러에 반영 (미러가 있는 상품만, 재고 예약을 사용하지 않으면 무시)
+     * @param deltas productId -> 증감량 (차감은 음수)
+     */
+    void adjustAvailable(Map<String, Long> deltas);
+
+    /**
+     * 예약 확정 (확정분은 flushConfirmed로 products에 반영)
+     * 같은 예약의 첫 확정 시도만 CONFIRMED/EXPIRED를 받고, 이후 시도는 ALREADY_CONFIRMED를 받는다.
+     * @return 진행 중인 예약이 없으면(만료/해제됨) EXPIRED - 호출자가 DB 재고에서 직접 차감
+     */
+    ConfirmResult confirm(String reservationId);
+
+    /**
+     * 예약 해제 (가용 재고 복원)
+     * @return 진행 중인 예약이 없으면 false
+     */
+    boolean release(String reservationId);
+
+    /**
+     * 만료 시각이 지난 예약
+     */
+    List<String> findExpired(Instant now, int limit);
+
+    /**
+     * 확정분을 꺼내 applier로 반영 (applier가 실패하면 다음 flush에서 다시 반영)
+     * @return 반영한 확정분 (productId -> 수량)
+     */
+    Map<String, Long> flushConfirmed(Consumer<Map<String, Long>> applier);
+
+    /**
+     * 가용 재고 미러 조회 (미러가 없는 상품은 제외)
+     */
+    Map<String, Long> findAvailable(Collection<String> productIds);
+
+    enum ReserveResult {
+        RESERVED,
+        INSUFFICIENT,
+        NOT_LOADED
+    }
+
+    enum ConfirmResult {
+        CONFIRMED,
+        ALREADY_CONFIRMED,
+        EXPIRED
+    }
+}
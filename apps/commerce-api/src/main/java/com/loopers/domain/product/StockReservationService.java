@@ -0,0 +1,174 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.product.StockReservationRepository.ConfirmResult;
+import com.loopers.domain.product.StockReservationRepository.ReserveResult;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Redis 재고 예약 (stock.reservation.enabled=true일 때)
+ * 주문 시 Redis 가용 재고에서 주문 상품 전체를 한 번에 예약하고, 결제 성공 시 확정한다.
+ * 확정분은 주기적으로 모아 products.quantity에 반영하고, 만료된 예약은 가용 재고로 되돌린다.
+ */
+@Service
+@Slf4j
+public class StockReservationService {
+    private static final int EXPIRED_BATCH_SIZE = 500;
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ProductRepository productRepository;
+    private final ProductService productService;
+    private final ProductStockBucketService productStockBucketService;
+    private final boolean enabled;
+    private final Duration ttl;
+
+    public StockReservationService(
+        StockReservationRepository stockReservationRepository,
+        ProductRepository productRepository,
+        ProductService productService,
+        ProductStockBucketService productStockBucketService,
+        @Value("${stock.reservation.enabled:false}") boolean enabled,
+        @Value("${stock.reservation.ttl:10m}") Duration ttl
+    ) {
+        this.stockReservationRepository = stockReservationRepository;
+        this.productRepository = productRepository;
+        this.productService = productService;
+        this.productStockBucketService = productStockBucketService;
+        this.enabled = enabled;
+        this.ttl = ttl;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문 상품 전체 예약 (하나라도 재고가 부족하면 아무것도 예약하지 않음)
+     * @param reservationId 주문번호
+     * @param lines productId -> 수량 (같은 상품은 합산)
+     */
+    public void reserve(String reservationId, Map<String, Long> lines) {
+        ReserveResult result = stockReservationRepository.reserve(reservationId, lines, ttl);
+        if (result == ReserveResult.NOT_LOADED) {
+            loadAvailable(lines.keySet());
+            result = stockReservationRepository.reserve(reservationId, lines, ttl);
+        }
+        if (result != ReserveResult.RESERVED) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "주문하려는 상품의 재고가 부족합니다");
+        }
+        releaseOnRollback(reservationId);
+    }
+
+    /**
+     * 예약 확정 (결제 성공)
+     * @return EXPIRED면 호출자가 DB 재고에서 차감, ALREADY_CONFIRMED면 다른 경로에서 이미 처리했으므로 아무것도 하지 않음
+     */
+    public ConfirmResult confirm(String reservationId) {
+        return stockReservationRepository.confirm(reservationId);
+    }
+
+    /**
+     * 예약 해제 (주문 실패/결제 실패)
+     */
+    public boolean release(String reservationId) {
+        return stockReservationRepository.release(reservationId);
+    }
+
+    /**
+     * 확정분을 products 재고에 반영 (상품코드 순 batch 한 번으로 차감, bucket으로 나뉜 상품은 bucket에서 차감)
+     */
+    @Scheduled(fixedDelayString = "${stock.reservation.flush-interval:1s}")
+    public void flushConfirmed() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Map<String, Long> flushed = stockReservationRepository.flushConfirmed(confirmed ->
+                productService.decreaseStockLines(confirmed).forEach((productId, applied) -> {
+                    if (!applied) {
+                        // 예약으로 이미 판매된 수량이므로 막을 수 없음 - 미러와 DB가 어긋난 상태
+                        log.error("확정 재고 반영 실패 (DB 재고 부족) - productId: {}, quantity: {}", productId, confirmed.get(productId));
+                    }
+                }));
+            if (!flushed.isEmpty()) {
+                log.debug("확정 재고 반영 - products: {}", flushed.size());
+            }
+        } catch (Exception e) {
+            log.warn("확정 재고 반영 실패 - 다음 주기에 재시도, error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 예약을 가용 재고로 되돌림
+     * @return 해제한 예약 수
+     */
+    @Scheduled(fixedDelayString = "${stock.reservation.sweep-interval:5s}")
+    public int releaseExpired() {
+        if (!enabled) {
+            return 0;
+        }
+        int released = 0;
+        List<String> expired = stockReservationRepository.findExpired(Instant.now(), EXPIRED_BATCH_SIZE);
+        for (String reservationId : expired) {
+            if (stockReservationRepository.release(reservationId)) {
+                released++;
+            }
+        }
+        if (released > 0) {
+            log.info("만료된 재고 예약 해제 - count: {}", released);
+        }
+        return released;
+    }
+
+    /**
+     * 주문 트랜잭션이 커밋되지 않으면 예약을 바로 해제 (TTL 만료까지 재고를 묶어두지 않도록)
+     */
+    private void releaseOnRollback(String reservationId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    release(reservationId);
+                } catch (Exception e) {
+                    log.warn("주문 롤백 후 재고 예약 해제 실패 - 만료 시 해제, reservationId: {}, error: {}", reservationId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 가용 재고 미러가 없는 상품을 DB 재고로 적재 (bucket으로 나뉜 상품은 bucket 재고 포함)
+     */
+    private void loadAvailable(Collection<String> productIds) {
+        Map<String, Long> quantities = new TreeMap<>();
+        for (String productId : productIds) {
+            Product product = productRepository.findProduct(productId);
+            if (ObjectUtils.isEmpty(product)) {
+                throw new CoreException(ErrorType.NOT_FOUND, "주문하려는 물품코드가 없습니다");
+            }
+            quantities.put(productId, product.getQuantity());
+        }
+        productStockBucketService.bucketQuantities(quantities.keySet())
+            .forEach((productId, bucketQuantity) -> quantities.merge(productId, bucketQuantity, Long::sum));
+        stockReservationRepository.loadIfAbsent(quantities);
+    }
+}
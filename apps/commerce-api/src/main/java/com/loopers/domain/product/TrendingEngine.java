@@ -0,0 +1,224 @@
+package com.loopers.domain.product;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요/주문 이벤트 기반 트렌딩 상품 순위 (window별 forward decay 점수 + 브랜드별 top-K)
+ * 점수는 메모리에서 바로 갱신하고(top-K 갱신 O(log K)), 증분은 모아 두었다가 snapshot 주기마다 Redis에 누적한다.
+ * Redis의 합산 점수(현재 + 직전 epoch)로 메모리 상태를 다시 만드는 것은 전체 점수를 읽으므로
+ * 누적보다 긴 reload 주기(또는 epoch 전환 시)에만 수행해 다른 노드의 이벤트를 합치고 top-K 누락을 보정하며,
+ * 재시작 시에도 같은 방식으로 바로 채운다.
+ */
+@Component
+@Slf4j
+public class TrendingEngine {
+    static final String ALL_BRANDS = "";
+    private static final String FIELD_DELIMITER = "|";
+    private static final double MIN_SCORE = 1e-3;
+
+    private final TrendingScoreRepository trendingScoreRepository;
+    private final boolean enabled;
+    private final int topK;
+    private final long reloadIntervalMillis;
+    private volatile long lastReloadAt;
+    private final Map<TrendingWindow, WindowState> states = new ConcurrentHashMap<>();
+    // window -> epoch -> "brandCode|productId" -> 아직 Redis에 누적하지 않은 증분
+    private volatile Map<TrendingWindow, Map<Long, Map<String, Double>>> pending = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock pendingLock = new ReentrantReadWriteLock();
+
+    public TrendingEngine(
+        TrendingScoreRepository trendingScoreRepository,
+        @Value("${product.trending.enabled:true}") boolean enabled,
+        @Value("${product.trending.top-k:100}") int topK,
+        @Value("${product.trending.reload-interval:1m}") Duration reloadInterval
+    ) {
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.enabled = enabled;
+        this.topK = topK;
+        this.reloadIntervalMillis = reloadInterval.toMillis();
+        Instant now = Instant.now();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            states.put(window, new WindowState(window.epochOf(now), topK));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int topK() {
+        return topK;
+    }
+
+    /**
+     * 상품 이벤트 점수 반영 (weight가 음수면 차감)
+     */
+    public void record(String productId, String brandCode, double weight, Instant at) {
+        if (!enabled) {
+            return;
+        }
+        String brand = brandCode != null ? brandCode : ALL_BRANDS;
+        String field = brand + FIELD_DELIMITER + productId;
+        pendingLock.readLock().lock();
+        try {
+            for (TrendingWindow window : TrendingWindow.values()) {
+                long epoch = window.epochOf(at);
+                pending.computeIfAbsent(window, w -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(epoch, e -> new ConcurrentHashMap<>())
+                    .merge(field, weight * window.growth(at, epoch), Double::sum);
+                WindowState state = states.get(window);
+                state.add(productId, brand, weight * window.growth(at, state.epoch));
+            }
+        } finally {
+            pendingLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 트렌딩 상위 상품 (brandCode가 없으면 전체)
+     */
+    public List<TrendingProduct> top(String brandCode, TrendingWindow window, int size) {
+        if (!enabled) {
+            return List.of();
+        }
+        String brand = brandCode != null && !brandCode.isBlank() ? brandCode : ALL_BRANDS;
+        TrendingTopK ranking = states.get(window).rankings.get(brand);
+        return ranking != null ? ranking.top(size) : List.of();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reload(pending);
+        } catch (Exception e) {
+            log.warn("Trending warm-up failed - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 모아 둔 증분을 Redis에 누적하고, reload 주기가 됐으면 Redis 합산 점수로 메모리 상태 재구성
+     */
+    @Scheduled(fixedDelayString = "${product.trending.snapshot-interval:10s}")
+    public void snapshot() {
+        if (!enabled) {
+            return;
+        }
+        Map<TrendingWindow, Map<Long, Map<String, Double>>> flushing;
+        pendingLock.writeLock().lock();
+        try {
+            flushing = pending;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            pendingLock.writeLock().unlock();
+        }
+        try {
+            flushing.forEach((window, byEpoch) -> byEpoch.forEach(
+                (epoch, increments) -> trendingScoreRepository.addScores(window, epoch, increments)));
+        } catch (Exception e) {
+            // 누적 실패분은 다음 주기에 다시 시도
+            restore(flushing);
+            log.warn("Trending snapshot failed - error: {}", e.getMessage());
+            return;
+        }
+        if (reloadDue()) {
+            reload(pending);
+        }
+    }
+
+    /**
+     * reload 주기가 지났거나, epoch가 바뀐 window가 있으면 재구성
+     */
+    private boolean reloadDue() {
+        if (System.currentTimeMillis() - lastReloadAt >= reloadIntervalMillis) {
+            return true;
+        }
+        Instant now = Instant.now();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            if (window.epochOf(now) != states.get(window).epoch) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void restore(Map<TrendingWindow, Map<Long, Map<String, Double>>> flushing) {
+        pendingLock.readLock().lock();
+        try {
+            flushing.forEach((window, byEpoch) -> byEpoch.forEach((epoch, increments) -> increments.forEach(
+                (field, increment) -> pending.computeIfAbsent(window, w -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(epoch, e -> new ConcurrentHashMap<>())
+                    .merge(field, increment, Double::sum))));
+        } finally {
+            pendingLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Redis의 현재/직전 epoch 점수 + 아직 누적하지 않은 증분으로 window별 상태를 새로 만들어 교체
+     */
+    private void reload(Map<TrendingWindow, Map<Long, Map<String, Double>>> unflushed) {
+        lastReloadAt = System.currentTimeMillis();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            long epoch = window.epochOf(Instant.now());
+            Map<String, Double> scores = new HashMap<>();
+            for (long source = epoch - 1; source <= epoch; source++) {
+                double scale = TrendingWindow.rescale(source, epoch);
+                trendingScoreRepository.findScores(window, source)
+                    .forEach((field, score) -> scores.merge(field, score * scale, Double::sum));
+            }
+            unflushed.getOrDefault(window, Map.of()).forEach((source, increments) -> {
+                double scale = TrendingWindow.rescale(source, epoch);
+                increments.forEach((field, increment) -> scores.merge(field, increment * scale, Double::sum));
+            });
+
+            WindowState rebuilt = new WindowState(epoch, topK);
+            scores.forEach((field, score) -> {
+                if (score < MIN_SCORE) {
+                    return;
+                }
+                int delimiter = field.indexOf(FIELD_DELIMITER);
+                rebuilt.add(field.substring(delimiter + 1), field.substring(0, delimiter), score);
+            });
+            states.put(window, rebuilt);
+        }
+    }
+
+    /**
+     * window 하나의 메모리 상태 (epoch 기준 상품별 점수, 브랜드별/전체 top-K)
+     */
+    private static final class WindowState {
+        private final long epoch;
+        private final int topK;
+        private final Map<String, Double> scores = new HashMap<>();
+        private final Map<String, TrendingTopK> rankings = new ConcurrentHashMap<>();
+
+        WindowState(long epoch, int topK) {
+            this.epoch = epoch;
+            this.topK = topK;
+        }
+
+        synchronized void add(String productId, String brand, double increment) {
+            double score = Math.max(scores.getOrDefault(productId, 0.0) + increment, 0.0);
+            scores.put(productId, score);
+            rankings.computeIfAbsent(ALL_BRANDS, b -> new TrendingTopK(topK)).update(productId, score);
+            if (!ALL_BRANDS.equals(brand)) {
+                rankings.computeIfAbsent(brand, b -> new TrendingTopK(topK)).update(productId, score);
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.loopers.domain.product;
+
+/**
+ * 트렌딩 점수 (epoch 기준 상대값, 같은 window 안에서만 비교 가능)
+ */
+public record TrendingProduct(String productId, double score) {
+}
@@ -0,0 +1,19 @@
+package com.loopers.domain.product;
+
+import java.util.Map;
+
+/**
+ * 트렌딩 점수 영속화 (window, epoch별 "brandCode|productId" -> 점수)
+ */
+public interface TrendingScoreRepository {
+
+    /**
+     * 점수 증분 누적
+     */
+    void addScores(TrendingWindow window, long epoch, Map<String, Double> increments);
+
+    /**
+     * epoch의 누적 점수 전체 조회
+     */
+    Map<String, Double> findScores(TrendingWindow window, long epoch);
+}
@@ -0,0 +1,58 @@
+package com.loopers.domain.product;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 점수 상위 K개만 유지하는 정렬 집합 (갱신 O(log K))
+ * 집합 밖 상품은 점수가 갱신될 때만 최하위와 비교해 들어오므로,
+ * 집합 안 상품의 점수가 줄어든 경우의 누락은 주기적인 재구성으로 보정한다.
+ */
+public class TrendingTopK {
+    private static final Comparator<TrendingProduct> ORDER =
+        Comparator.comparingDouble(TrendingProduct::score).reversed().thenComparing(TrendingProduct::productId);
+
+    private final int capacity;
+    private final Map<String, Double> scores = new HashMap<>();
+    private final TreeSet<TrendingProduct> ranked = new TreeSet<>(ORDER);
+
+    public TrendingTopK(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void update(String productId, double score) {
+        Double previous = scores.remove(productId);
+        if (previous != null) {
+            ranked.remove(new TrendingProduct(productId, previous));
+        }
+        if (score <= 0) {
+            return;
+        }
+        TrendingProduct candidate = new TrendingProduct(productId, score);
+        if (ranked.size() >= capacity) {
+            TrendingProduct lowest = ranked.last();
+            if (ORDER.compare(candidate, lowest) >= 0) {
+                return;
+            }
+            ranked.pollLast();
+            scores.remove(lowest.productId());
+        }
+        ranked.add(candidate);
+        scores.put(productId, score);
+    }
+
+    public synchronized List<TrendingProduct> top(int limit) {
+        List<TrendingProduct> result = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (TrendingProduct product : ranked) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(product);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * 트렌딩 점수 감쇠 구간 (반감기)
+ * 점수는 구간 시작 시각(landmark) 기준으로 2^((t - landmark) / 반감기)를 곱해 누적하는 forward decay 방식이라,
+ * 이미 쌓인 점수를 매번 줄이지 않고도 상대 순위가 시간에 따라 감쇠된다.
+ * 값이 커지지 않도록 반감기 EPOCH_HALF_LIVES배마다 landmark를 옮긴다(epoch).
+ */
+public enum TrendingWindow {
+    HOUR("1h", Duration.ofHours(1)),
+    DAY("1d", Duration.ofDays(1)),
+    WEEK("7d", Duration.ofDays(7));
+
+    public static final TrendingWindow DEFAULT = DAY;
+    static final int EPOCH_HALF_LIVES = 16;
+
+    private final String code;
+    private final Duration halfLife;
+
+    TrendingWindow(String code, Duration halfLife) {
+        this.code = code;
+        this.halfLife = halfLife;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public static TrendingWindow from(String code) {
+        if (code == null || code.isBlank()) {
+            return DEFAULT;
+        }
+        return Arrays.stream(values())
+            .filter(window -> window.code.equalsIgnoreCase(code) || window.name().equalsIgnoreCase(code))
+            .findFirst()
+            .orElseThrow(() -> new CoreException(ErrorType.BAD_REQUEST, "지원하지 않는 window 입니다: " + code));
+    }
+
+    public Duration epochLength() {
+        return halfLife.multipliedBy(EPOCH_HALF_LIVES);
+    }
+
+    public long epochOf(Instant at) {
+        return at.toEpochMilli() / epochLength().toMillis();
+    }
+
+    /**
+     * epoch 시작 시각 기준 가중치 (1 ~ 2^EPOCH_HALF_LIVES)
+     */
+    public double growth(Instant at, long epoch) {
+        long elapsed = at.toEpochMilli() - epoch * epochLength().toMillis();
+        return Math.pow(2, (double) elapsed / halfLife.toMillis());
+    }
+
+    /**
+     * fromEpoch 기준 점수를 toEpoch 기준으로 환산하는 배율
+     */
+    public static double rescale(long fromEpoch, long toEpoch) {
+        return Math.pow(2, (double) EPOCH_HALF_LIVES * (fromEpoch - toEpoch));
+    }
+}
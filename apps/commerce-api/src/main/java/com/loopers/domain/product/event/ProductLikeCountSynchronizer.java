@@ -0,0 +1,102 @@
+package com.loopers.domain.product.event;
+
+import com.loopers.domain.like.event.LikeSummaryFlushedEvent;
+import com.loopers.domain.product.ProductRepository;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * like_summary -> products.like_count 동기화
+ * like_summary에 반영된 상품을 모아두었다가 주기적으로 한 번의 UPDATE로 반영하고,
+ * 기동 시 전체 상품을 한 번 backfill해 이벤트 없이 바뀐 값(마이그레이션 이전 데이터 등)을 맞춘다.
+ */
+@Component
+@Slf4j
+public class ProductLikeCountSynchronizer {
+    private static final int BATCH_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final boolean syncImmediately;
+    private final boolean backfillOnStartup;
+    private final Set<String> dirtyProductIds = ConcurrentHashMap.newKeySet();
+
+    public ProductLikeCountSynchronizer(
+        ProductRepository productRepository,
+        @Value("${product.like-count.sync-immediately:false}") boolean syncImmediately,
+        @Value("${product.like-count.backfill-on-startup:true}") boolean backfillOnStartup
+    ) {
+        this.productRepository = productRepository;
+        this.syncImmediately = syncImmediately;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (Exception e) {
+            log.warn("like_count backfill 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 상품 like_count를 like_summary로 다시 계산 (상품코드 순 BATCH_SIZE 단위)
+     * @return 반영한 상품 수
+     */
+    public int backfill() {
+        int updated = 0;
+        String after = "";
+        while (true) {
+            List<String> batch = productRepository.findCodesAfter(after, BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            updated += productRepository.syncLikeCount(batch);
+            after = batch.get(batch.size() - 1);
+        }
+        log.info("like_count backfill 완료 - 반영: {}", updated);
+        return updated;
+    }
+
+    @EventListener
+    public void handleFlushed(LikeSummaryFlushedEvent flushedEvent) {
+        dirtyProductIds.addAll(flushedEvent.getProductIds());
+        if (syncImmediately) {
+            sync();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.like-count.sync-interval:1s}")
+    public void sync() {
+        while (!dirtyProductIds.isEmpty()) {
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            Iterator<String> iterator = dirtyProductIds.iterator();
+            while (iterator.hasNext() && batch.size() < BATCH_SIZE) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+
+            try {
+                int updated = productRepository.syncLikeCount(batch);
+                log.debug("like_count 동기화 - 대상: {}, 반영: {}", batch.size(), updated);
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도
+                dirtyProductIds.addAll(batch);
+                log.warn("like_count 동기화 실패 - 대상: {}, error: {}", batch.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+}
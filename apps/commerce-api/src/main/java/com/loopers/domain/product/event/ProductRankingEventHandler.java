@@ -0,0 +1,33 @@
+package com.loopers.domain.product.event;
+
+import com.loopers.domain.like.event.LikeEvent;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRankingRepository;
+import com.loopers.domain.product.ProductRepository;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 이벤트 -> 브랜드별 좋아요 랭킹 증분 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductRankingEventHandler {
+    private final ProductRepository productRepository;
+    private final ProductRankingRepository productRankingRepository;
+
+    @EventListener
+    public void handleLike(LikeEvent likeEvent) {
+        // 브랜드 확인용 조회는 상세 캐시 사용
+        Product product = productRepository.findProductWithCache(likeEvent.getProductId(), Duration.ofMinutes(1));
+        if (product == null) {
+            return;
+        }
+        long delta = likeEvent.isIncrement() ? 1 : -1;
+        productRankingRepository.incrementLikeCount(product.getBrand(), product.getCode(), delta);
+    }
+}
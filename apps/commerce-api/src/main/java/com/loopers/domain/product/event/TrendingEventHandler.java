@@ -0,0 +1,80 @@
+package com.loopers.domain.product.event;
+
+import com.loopers.domain.like.event.LikeEvent;
+import com.loopers.domain.order.OrderDetail;
+import com.loopers.domain.order.event.OrderPaymentCompletedEvent;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.TrendingEngine;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좋아요/결제 완료 이벤트 -> 트렌딩 점수 반영
+ */
+@Component
+@Slf4j
+public class TrendingEventHandler {
+    private final ProductRepository productRepository;
+    private final TrendingEngine trendingEngine;
+    private final double likeWeight;
+    private final double orderWeight;
+
+    public TrendingEventHandler(
+        ProductRepository productRepository,
+        TrendingEngine trendingEngine,
+        @Value("${product.trending.like-weight:1}") double likeWeight,
+        @Value("${product.trending.order-weight:3}") double orderWeight
+    ) {
+        this.productRepository = productRepository;
+        this.trendingEngine = trendingEngine;
+        this.likeWeight = likeWeight;
+        this.orderWeight = orderWeight;
+    }
+
+    @EventListener
+    public void handleLike(LikeEvent likeEvent) {
+        if (!trendingEngine.isEnabled()) {
+            return;
+        }
+        // 브랜드 확인용 조회는 상세 캐시 사용
+        Product product = productRepository.findProductWithCache(likeEvent.getProductId(), Duration.ofMinutes(1));
+        if (product == null) {
+            return;
+        }
+        double weight = likeEvent.isIncrement() ? likeWeight : -likeWeight;
+        trendingEngine.record(product.getCode(), product.getBrand(), weight, Instant.now());
+    }
+
+    /**
+     * 결제 성공한 주문의 상품별 수량만큼 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePaymentCompleted(OrderPaymentCompletedEvent event) {
+        if (!trendingEngine.isEnabled() || !event.isPaymentSuccess()) {
+            return;
+        }
+        try {
+            List<OrderDetail> orderDetails = event.getOrder().getOrderDetailList();
+            List<String> productIds = orderDetails.stream().map(OrderDetail::getProductId).distinct().toList();
+            Map<String, Product> products = productRepository.findProductsWithCache(productIds, Duration.ofMinutes(1));
+            Instant now = Instant.now();
+            orderDetails.forEach(orderDetail -> {
+                Product product = products.get(orderDetail.getProductId());
+                if (product != null) {
+                    trendingEngine.record(product.getCode(), product.getBrand(), orderWeight * orderDetail.getQuantity(), now);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Trending order score failed - orderNo: {}, error: {}", event.getOrder().getOrderNo(), e.getMessage());
+        }
+    }
+}
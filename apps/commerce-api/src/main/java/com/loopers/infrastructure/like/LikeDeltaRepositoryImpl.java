@@ -0,0 +1,141 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeDeltaRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 증감분 Redis 해시 (like.counter.mode=redis, like:delta, field = productId, value = delta)
+ * flush는 like:delta를 like:delta:flushing으로 RENAME한 뒤 반영하고, 반영이 끝나야 삭제한다.
+ * 반영 중 장애가 나도 like:delta:flushing이 남아 다음 flush에서 먼저 반영된다.
+ * (DB 반영 후 삭제 전에 장애가 나면 같은 증감분이 한 번 더 반영될 수 있음 - at-least-once)
+ */
+@Component
+@ConditionalOnProperty(name = "like.counter.mode", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class LikeDeltaRepositoryImpl implements LikeDeltaRepository {
+    static final String DELTA_KEY = "like:delta";
+    static final String FLUSHING_KEY = "like:delta:flushing";
+    private static final String LOCK_KEY = "like:delta:flush-lock";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+    private static final long LOCK_RETRY_INTERVAL_MS = 10;
+
+    // 이전 flush가 남긴 flushing 키가 있으면 그대로, 없으면 delta를 flushing으로 옮긴 뒤 꺼낸다
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('exists', KEYS[2]) == 0 then " +
+        "  if redis.call('exists', KEYS[1]) == 0 then return {} end " +
+        "  redis.call('rename', KEYS[1], KEYS[2]) " +
+        "end " +
+        "return redis.call('hgetall', KEYS[2])",
+        List.class
+    );
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public LikeDeltaRepositoryImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void increment(String productId, long delta) {
+        redisTemplate.opsForHash().increment(DELTA_KEY, productId, delta);
+    }
+
+    @Override
+    public Map<String, Long> flush(Consumer<Map<String, Long>> applier, Duration lockWait) {
+        String token = UUID.randomUUID().toString();
+        if (!acquireLock(token, lockWait)) {
+            log.debug("like delta flush skipped - 다른 flush 진행 중");
+            return Map.of();
+        }
+        try {
+            Map<String, Long> deltas = drain();
+            if (deltas.isEmpty()) {
+                return Map.of();
+            }
+            applier.accept(deltas);
+            redisTemplate.delete(FLUSHING_KEY);
+            return deltas;
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    /**
+     * 반영 전(like:delta)과 반영 중(like:delta:flushing) 증감분 합산
+     */
+    @Override
+    public Map<String, Long> pendingDeltas(Collection<String> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> fields = new ArrayList<>(productIds);
+        List<Object> pending = redisTemplate.opsForHash().multiGet(DELTA_KEY, fields);
+        List<Object> flushing = redisTemplate.opsForHash().multiGet(FLUSHING_KEY, fields);
+
+        Map<String, Long> deltas = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            long delta = toLong(pending.get(i)) + toLong(flushing.get(i));
+            if (delta != 0) {
+                deltas.put((String) fields.get(i), delta);
+            }
+        }
+        return deltas;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> drain() {
+        List<Object> entries = redisTemplate.execute(DRAIN_SCRIPT, List.of(DELTA_KEY, FLUSHING_KEY));
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        if (entries == null) {
+            return deltas;
+        }
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            deltas.put((String) entries.get(i), toLong(entries.get(i + 1)));
+        }
+        return deltas;
+    }
+
+    private boolean acquireLock(String token, Duration lockWait) {
+        long deadline = System.currentTimeMillis() + lockWait.toMillis();
+        while (true) {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL);
+            if (Boolean.TRUE.equals(acquired)) {
+                return true;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(LOCK_RETRY_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private long toLong(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+}
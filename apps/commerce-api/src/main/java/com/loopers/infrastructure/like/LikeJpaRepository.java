@@ -2,6 +2,7 @@ package com.loopers.infrastructure.like;
 
 import com.loopers.domain.like.Like;
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,7 +19,15 @@ public interface LikeJpaRepository extends JpaRepository<Like, Long> {
 
     @Modifying
     @Query("delete from Like l where l.userId = :userId and l.productId = :productId")
-    void deleteByUserIdAndProductId(@Param("userId") String userId, @Param("productId") String productId);
+    int deleteByUserIdAndProductId(@Param("userId") String userId, @Param("productId") String productId);
+
+    /**
+     * 좋아요 저장 (이미 있으면 무시) - 반환값이 0이면 이미 좋아요한 상태
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (product_id, user_id, version, created_at, updated_at) " +
+        "VALUES (:productId, :userId, 0, NOW(6), NOW(6))", nativeQuery = true)
+    int insertIgnore(@Param("userId") String userId, @Param("productId") String productId);
 
     @Query("select l from Like l where l.productId = :productId")
     Optional<Like> likeByProductId(@Param("productId") String productId);
@@ -26,6 +35,32 @@ public interface LikeJpaRepository extends JpaRepository<Like, Long> {
     @Query("select count(l) > 0 from Like l where l.userId = :userId and l.productId = :productId")
     Boolean existsByUserIdAndProductId(@Param("userId") String userId, @Param("productId") String productId);
 
+    /**
+     * 사용자가 좋아요한 상품코드 전체
+     */
+    @Query("select l.productId from Like l where l.userId = :userId")
+    List<String> findProductIdsByUserId(@Param("userId") String userId);
+
+    /**
+     * 사용자가 좋아요한 상품코드 중 목록에 포함된 것
+     */
+    @Query("select l.productId from Like l where l.userId = :userId and l.productId in :productIds")
+    List<String> findLikedProductIds(@Param("userId") String userId, @Param("productIds") Collection<String> productIds);
+
+    /**
+     * 상품코드 keyset 기준 다음 청크의 상품별 좋아요 수 [productId, count]
+     * (product_id 선두 unique 인덱스를 범위 스캔)
+     */
+    @Query(value = "SELECT product_id, COUNT(*) FROM likes WHERE product_id > :after " +
+        "GROUP BY product_id ORDER BY product_id LIMIT :limit", nativeQuery = true)
+    List<Object[]> countGroupByProductIdAfter(@Param("after") String after, @Param("limit") int limit);
+
+    /**
+     * 상품별 좋아요 수 [productId, count]
+     */
+    @Query("select l.productId, count(l) from Like l where l.productId in :productIds group by l.productId")
+    List<Object[]> countGroupByProductIds(@Param("productIds") Collection<String> productIds);
+
     /**
      * Optimistic locking - find by userId and productId without lock
      */
@@ -0,0 +1,192 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisCacheTemplate;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeMembershipRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 좋아요 상품 Redis Set (like:user:{userId})
+ * 처음 조회될 때 DB에서 전체를 적재하고(lazy warm-up), 적재 여부는 sentinel 멤버로 구분한다.
+ * 적재되지 않은 사용자의 좋아요/취소는 Set을 만들지 않는다 (일부만 담긴 Set이 완전한 것처럼 조회되지 않도록).
+ * 좋아요/취소마다 사용자별 version을 올리고, 적재는 임시 키에 만든 뒤 적재 시작 이후 version이 그대로일 때만 RENAME 한다
+ * (DB를 읽은 뒤 반영된 좋아요/취소가 적재로 덮여 사라지지 않도록).
+ */
+@Component
+@Slf4j
+public class LikeMembershipRepositoryImpl implements LikeMembershipRepository {
+    private static final String LOADED = "__loaded__";
+    private static final Duration MEMBERSHIP_TTL = Duration.ofMinutes(10);
+
+    // KEYS = [Set, version], ARGV = [productId, version TTL(ms)]
+    private static final RedisScript<Long> ADD_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('incr', KEYS[2]) " +
+        "redis.call('pexpire', KEYS[2], ARGV[2]) " +
+        "if redis.call('exists', KEYS[1]) == 1 then return redis.call('sadd', KEYS[1], ARGV[1]) end return 0",
+        Long.class
+    );
+
+    // KEYS = [Set, version], ARGV = [productId, version TTL(ms)]
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('incr', KEYS[2]) " +
+        "redis.call('pexpire', KEYS[2], ARGV[2]) " +
+        "return redis.call('srem', KEYS[1], ARGV[1])",
+        Long.class
+    );
+
+    // KEYS = [임시 Set, Set, version], ARGV = [적재 시작 시 version, Set TTL(ms)]
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>(
+        "if (redis.call('get', KEYS[3]) or '') ~= ARGV[1] then " +
+        "  redis.call('del', KEYS[1]) " +
+        "  return 0 " +
+        "end " +
+        "redis.call('rename', KEYS[1], KEYS[2]) " +
+        "redis.call('pexpire', KEYS[2], ARGV[2]) " +
+        "return 1",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LikeJpaRepository likeJpaRepository;
+    private final boolean enabled;
+
+    public LikeMembershipRepositoryImpl(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        LikeJpaRepository likeJpaRepository,
+        @Value("${like.membership.cache-enabled:true}") boolean enabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.likeJpaRepository = likeJpaRepository;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Map<String, Boolean> likedBy(String userId, Collection<String> productIds) {
+        Map<String, Boolean> liked = new LinkedHashMap<>();
+        if (productIds.isEmpty()) {
+            return liked;
+        }
+        if (!enabled) {
+            return fromDatabase(userId, productIds);
+        }
+
+        String key = membershipKey(userId);
+        try {
+            // sentinel과 함께 SMISMEMBER 한 번으로 적재 여부와 멤버십을 같이 확인
+            List<Object> members = new ArrayList<>(productIds.size() + 1);
+            members.add(LOADED);
+            members.addAll(productIds);
+            Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key, members.toArray());
+
+            if (result == null || !Boolean.TRUE.equals(result.get(LOADED))) {
+                Set<String> loaded = warmUp(userId);
+                productIds.forEach(productId -> liked.put(productId, loaded.contains(productId)));
+                return liked;
+            }
+            productIds.forEach(productId -> liked.put(productId, Boolean.TRUE.equals(result.get(productId))));
+            return liked;
+        } catch (Exception e) {
+            log.warn("Failed to read like membership - userId: {}, error: {}", userId, e.getMessage());
+            return fromDatabase(userId, productIds);
+        }
+    }
+
+    @Override
+    public void added(String userId, String productId) {
+        afterCommit(userId, key -> redisTemplate.execute(ADD_IF_EXISTS_SCRIPT, List.of(key, versionKey(userId)),
+            productId, String.valueOf(MEMBERSHIP_TTL.toMillis())));
+    }
+
+    @Override
+    public void removed(String userId, String productId) {
+        afterCommit(userId, key -> redisTemplate.execute(REMOVE_SCRIPT, List.of(key, versionKey(userId)),
+            productId, String.valueOf(MEMBERSHIP_TTL.toMillis())));
+    }
+
+    /**
+     * DB의 좋아요 상품 전체를 임시 키에 적재한 뒤, 그사이 좋아요/취소가 없었을 때만 Set으로 교체
+     * (교체하지 못해도 이번 조회는 읽은 DB 값으로 응답하고, 다음 조회 때 다시 적재)
+     */
+    private Set<String> warmUp(String userId) {
+        String versionKey = versionKey(userId);
+        String version = redisTemplate.opsForValue().get(versionKey);
+        Set<String> productIds = new HashSet<>(likeJpaRepository.findProductIdsByUserId(userId));
+
+        List<String> members = new ArrayList<>(productIds.size() + 1);
+        members.add(LOADED);
+        members.addAll(productIds);
+        String key = membershipKey(userId);
+        String warmingKey = key + ":warming:" + UUID.randomUUID();
+        redisTemplate.opsForSet().add(warmingKey, members.toArray(new String[0]));
+        redisTemplate.expire(warmingKey, MEMBERSHIP_TTL);
+        Long published = redisTemplate.execute(PUBLISH_SCRIPT, List.of(warmingKey, key, versionKey),
+            version != null ? version : "", String.valueOf(MEMBERSHIP_TTL.toMillis()));
+        log.debug("Like membership warmed - userId: {}, size: {}, published: {}", userId, productIds.size(), published);
+        return productIds;
+    }
+
+    private Map<String, Boolean> fromDatabase(String userId, Collection<String> productIds) {
+        Set<String> likedIds = new HashSet<>(likeJpaRepository.findLikedProductIds(userId, productIds));
+        Map<String, Boolean> liked = new LinkedHashMap<>();
+        productIds.forEach(productId -> liked.put(productId, likedIds.contains(productId)));
+        return liked;
+    }
+
+    /**
+     * 커밋 전에 반영하면 롤백 시 Set과 DB가 어긋나므로 커밋 후 반영 (실패하면 Set을 지워 다음 조회 때 다시 적재)
+     */
+    private void afterCommit(String userId, Consumer<String> action) {
+        if (!enabled) {
+            return;
+        }
+        String key = membershipKey(userId);
+        Runnable safeAction = () -> {
+            try {
+                action.accept(key);
+            } catch (Exception e) {
+                log.warn("Failed to update like membership - userId: {}, error: {}", userId, e.getMessage());
+                try {
+                    redisTemplate.delete(key);
+                } catch (Exception ignored) {
+                    // TTL 만료 후 다시 적재
+                }
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+
+    private String membershipKey(String userId) {
+        return RedisCacheTemplate.generateKey("like", "user", userId);
+    }
+
+    private String versionKey(String userId) {
+        return RedisCacheTemplate.generateKey("like", "user-version", userId);
+    }
+}
@@ -1,5 +1,6 @@
 package com.loopers.infrastructure.like;
 
+import com.loopers.config.redis.HotKeyDetector;
 import com.loopers.domain.like.Like;
 import com.loopers.domain.like.LikeRepository;
 import java.util.Optional;
@@ -10,7 +11,10 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Component
 public class LikeRepositoryImpl implements LikeRepository {
+    static final String HOT_KEY_NAMESPACE = "like";
+
     private final LikeJpaRepository likeJpaRepository;
+    private final HotKeyDetector hotKeyDetector;
 
     /**
      * UserId와 ProductID로 좋아요가 된 내역을 찾는다
@@ -45,8 +49,22 @@ public class LikeRepositoryImpl implements LikeRepository {
      * @param productId
      */
     @Override
-    public void deleteByProductIdAndUserId(String userId , String productId) {
-        likeJpaRepository.deleteByUserIdAndProductId(userId, productId);
+    @Transactional
+    public int deleteByProductIdAndUserId(String userId , String productId) {
+        hotKeyDetector.record(HOT_KEY_NAMESPACE, productId);
+        return likeJpaRepository.deleteByUserIdAndProductId(userId, productId);
+    }
+
+    /**
+     * Like 저장 (이미 있으면 무시)
+     * @param like
+     * @return 저장된 행 수 (0이면 이미 좋아요한 상태)
+     */
+    @Override
+    @Transactional
+    public int insertIgnore(Like like) {
+        hotKeyDetector.record(HOT_KEY_NAMESPACE, like.getProductId());
+        return likeJpaRepository.insertIgnore(like.getUserId(), like.getProductId());
     }
 
 
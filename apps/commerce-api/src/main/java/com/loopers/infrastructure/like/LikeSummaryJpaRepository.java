@@ -43,6 +43,12 @@ public interface LikeSummaryJpaRepository extends JpaRepository<LikeSummary, Lon
     @Query("select ls from LikeSummary ls where ls.productId in :productCodes")
     List<LikeSummary> findByProductCodes(List<String> productCodes);
 
+    /**
+     * 상품코드 범위 (after, upTo]의 LikeSummary (upTo가 null이면 끝까지)
+     */
+    @Query("select ls from LikeSummary ls where ls.productId > :after and (:upTo is null or ls.productId <= :upTo)")
+    List<LikeSummary> findByProductIdRange(@Param("after") String after, @Param("upTo") String upTo);
+
     /**
      * Optimistic locking - get LikeSummary by productId without lock
      */
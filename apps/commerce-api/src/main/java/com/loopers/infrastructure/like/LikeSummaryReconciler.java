@@ -0,0 +1,217 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeDeltaRepository;
+import com.loopers.domain.like.LikeSummaryRepository;
+import com.loopers.domain.like.event.LikeSummaryFlushedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * likes 원본 기준으로 like_summary(+ 미반영 증감분) 드리프트를 찾아 보정한다.
+ * 상품코드 keyset 청크 단위로 GROUP BY 하며, 청크마다 체크포인트를 Redis에 남겨 중단 후 이어서 진행한다.
+ * 좋아요 직후 증감분이 아직 쌓이지 않은 순간을 드리프트로 오인하지 않도록,
+ * confirm-delay 후 다시 비교해 같은 드리프트가 유지된 상품만 증감분으로 보정한다.
+ * 보정한 상품은 flush와 같은 이벤트를 발행해 products.like_count에도 반영되게 한다.
+ * 최대 max-duration까지 sleep을 섞어 실행되므로 스케줄러 스레드가 아닌 전용 executor에서 실행한다.
+ */
+@Component
+@Slf4j
+public class LikeSummaryReconciler {
+    static final String CHECKPOINT_KEY = "like:reconcile:checkpoint";
+    private static final String LOCK_KEY = "like:reconcile:lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+    private final LikeJpaRepository likeJpaRepository;
+    private final LikeSummaryJpaRepository likeSummaryJpaRepository;
+    private final LikeSummaryRepository likeSummaryRepository;
+    private final LikeDeltaRepository likeDeltaRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final Duration chunkPause;
+    private final Duration confirmDelay;
+    private final Duration maxDuration;
+    private final Counter scannedCounter;
+    private final Counter repairedCounter;
+    private final AtomicLong lastMaxDrift = new AtomicLong();
+
+    public LikeSummaryReconciler(
+        LikeJpaRepository likeJpaRepository,
+        LikeSummaryJpaRepository likeSummaryJpaRepository,
+        LikeSummaryRepository likeSummaryRepository,
+        LikeDeltaRepository likeDeltaRepository,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        ApplicationEventPublisher eventPublisher,
+        MeterRegistry meterRegistry,
+        @Value("${like.reconcile.chunk-size:1000}") int chunkSize,
+        @Value("${like.reconcile.chunk-pause:200ms}") Duration chunkPause,
+        @Value("${like.reconcile.confirm-delay:2s}") Duration confirmDelay,
+        @Value("${like.reconcile.max-duration:30m}") Duration maxDuration
+    ) {
+        this.likeJpaRepository = likeJpaRepository;
+        this.likeSummaryJpaRepository = likeSummaryJpaRepository;
+        this.likeSummaryRepository = likeSummaryRepository;
+        this.likeDeltaRepository = likeDeltaRepository;
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.chunkPause = chunkPause;
+        this.confirmDelay = confirmDelay;
+        this.maxDuration = maxDuration;
+        this.scannedCounter = Counter.builder("like.reconcile.scanned")
+            .description("정합성 검사한 상품 수")
+            .register(meterRegistry);
+        this.repairedCounter = Counter.builder("like.reconcile.repaired")
+            .description("드리프트를 보정한 like_summary 상품 수")
+            .register(meterRegistry);
+        Gauge.builder("like.reconcile.max.drift", lastMaxDrift, AtomicLong::get)
+            .description("마지막 실행에서 발견한 최대 드리프트 (절대값)")
+            .register(meterRegistry);
+    }
+
+    @Async("likeReconcileExecutor")
+    @Scheduled(cron = "${like.reconcile.cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 체크포인트부터 끝까지(또는 max-duration까지) 보정
+     * @return 보정한 상품 수
+     */
+    public long reconcile() {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("like_summary reconcile skipped - 다른 노드에서 진행 중");
+            return 0;
+        }
+        long deadline = System.currentTimeMillis() + maxDuration.toMillis();
+        long repaired = 0;
+        long maxDrift = 0;
+        try {
+            String after = redisTemplate.opsForValue().get(CHECKPOINT_KEY);
+            if (after == null) {
+                after = "";
+            }
+            while (true) {
+                List<Object[]> rows = likeJpaRepository.countGroupByProductIdAfter(after, chunkSize);
+                boolean lastChunk = rows.size() < chunkSize;
+                String upTo = lastChunk ? null : (String) rows.get(rows.size() - 1)[0];
+
+                Map<String, Long> drifts = reconcileChunk(after, upTo, rows);
+                repaired += drifts.size();
+                for (long drift : drifts.values()) {
+                    maxDrift = Math.max(maxDrift, Math.abs(drift));
+                }
+
+                if (lastChunk) {
+                    redisTemplate.delete(CHECKPOINT_KEY);
+                    break;
+                }
+                after = upTo;
+                redisTemplate.opsForValue().set(CHECKPOINT_KEY, after);
+                if (System.currentTimeMillis() >= deadline) {
+                    log.info("like_summary reconcile paused - checkpoint: {}", after);
+                    break;
+                }
+                sleep(chunkPause);
+            }
+        } finally {
+            redisTemplate.delete(LOCK_KEY);
+        }
+        lastMaxDrift.set(maxDrift);
+        log.info("like_summary reconcile finished - repaired: {}, maxDrift: {}", repaired, maxDrift);
+        return repaired;
+    }
+
+    /**
+     * 상품코드 범위 (after, upTo]의 드리프트를 찾아 보정
+     * @return 보정한 상품별 드리프트
+     */
+    private Map<String, Long> reconcileChunk(String after, String upTo, List<Object[]> rows) {
+        Map<String, Long> actual = new LinkedHashMap<>();
+        rows.forEach(row -> actual.put((String) row[0], ((Number) row[1]).longValue()));
+        // 좋아요가 모두 취소됐는데 like_summary에 남은 상품
+        likeSummaryJpaRepository.findByProductIdRange(after, upTo)
+            .forEach(likeSummary -> actual.putIfAbsent(likeSummary.getProductId(), 0L));
+        if (actual.isEmpty()) {
+            return Map.of();
+        }
+        scannedCounter.increment(actual.size());
+
+        Map<String, Long> drifts = drifts(actual);
+        if (drifts.isEmpty()) {
+            return drifts;
+        }
+
+        sleep(confirmDelay);
+        List<String> driftedIds = new ArrayList<>(drifts.keySet());
+        Map<String, Long> recounted = new HashMap<>();
+        driftedIds.forEach(productId -> recounted.put(productId, 0L));
+        likeJpaRepository.countGroupByProductIds(driftedIds)
+            .forEach(row -> recounted.put((String) row[0], ((Number) row[1]).longValue()));
+        Map<String, Long> confirmed = drifts(recounted);
+
+        Map<String, Long> repairs = new LinkedHashMap<>();
+        drifts.forEach((productId, drift) -> {
+            if (drift.equals(confirmed.get(productId))) {
+                repairs.put(productId, drift);
+            }
+        });
+        if (!repairs.isEmpty()) {
+            likeSummaryRepository.applyDeltas(repairs);
+            eventPublisher.publishEvent(new LikeSummaryFlushedEvent(this, repairs.keySet()));
+            repairedCounter.increment(repairs.size());
+            log.warn("like_summary drift repaired - {}", repairs);
+        }
+        return repairs;
+    }
+
+    /**
+     * 원본 좋아요 수 - (like_summary + 미반영 증감분), 0이 아닌 것만
+     */
+    private Map<String, Long> drifts(Map<String, Long> actual) {
+        List<String> productIds = new ArrayList<>(actual.keySet());
+        Map<String, Long> counted = new HashMap<>();
+        likeSummaryJpaRepository.findByProductCodes(productIds)
+            .forEach(likeSummary -> counted.merge(likeSummary.getProductId(), likeSummary.getLikesCount(), Long::sum));
+        likeDeltaRepository.pendingDeltas(productIds).forEach((productId, delta) -> counted.merge(productId, delta, Long::sum));
+
+        Map<String, Long> drifts = new LinkedHashMap<>();
+        actual.forEach((productId, count) -> {
+            long drift = count - counted.getOrDefault(productId, 0L);
+            if (drift != 0) {
+                drifts.put(productId, drift);
+            }
+        });
+        return drifts;
+    }
+
+    private void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,17 +1,36 @@
 package com.loopers.infrastructure.like;
 
+import com.loopers.config.redis.RedisCacheTemplate;
 import com.loopers.domain.like.LikeSummary;
 import com.loopers.domain.like.LikeSummaryRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * 좋아요 카운팅 저장소
+ * like_summary 쓰기는 flush 락을 잡은 단일 flusher가 상품별로 모은 증감분을 주기마다 한 번씩만 반영하므로
+ * 행을 나누지 않고 상품당 한 행에 반영한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class LikeSummaryRepositoryImpl implements LikeSummaryRepository {
+    private static final String APPLY_DELTA_SQL =
+        "INSERT INTO like_summary (product_id, likes_count) VALUES (?, GREATEST(?, 0)) " +
+        "ON DUPLICATE KEY UPDATE likes_count = GREATEST(likes_count + ?, 0)";
+
     private final LikeSummaryJpaRepository likeSummaryJpaRepository;
+    private final RedisCacheTemplate redisCacheTemplate;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 물품의 좋아요 총 카운팅 저장 (원자적 연산)
@@ -26,6 +45,7 @@ public class LikeSummaryRepositoryImpl implements LikeSummaryRepository {
             // 업데이트된 행이 없으면 새로 생성
             likeSummaryJpaRepository.save(likeSummary);
         }
+        evictAfterCommit(List.of(likeCountKey(likeSummary.getProductId())));
     }
 
     /**
@@ -69,4 +89,85 @@ public class LikeSummaryRepositoryImpl implements LikeSummaryRepository {
     public List<LikeSummary> findByProductCodes(List<String> productCodes) {
         return likeSummaryJpaRepository.findByProductCodes(productCodes);
     }
+
+    /**
+     * 여러 상품의 좋아요 갯수 조회 (캐시 미스만 IN 쿼리로 조회, 없는 상품도 0으로 캐시)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> findLikeCountsWithCache(List<String> productCodes, Duration ttl) {
+        Map<String, String> cacheKeys = new LinkedHashMap<>();
+        productCodes.forEach(productId -> cacheKeys.put(productId, likeCountKey(productId)));
+        Map<String, Long> cached = redisCacheTemplate.getAll(cacheKeys.values(), Long.class);
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        List<String> missedIds = new ArrayList<>();
+        cacheKeys.forEach((productId, cacheKey) -> {
+            Long count = cached.get(cacheKey);
+            if (count != null) {
+                counts.put(productId, count);
+            } else {
+                missedIds.add(productId);
+            }
+        });
+        if (missedIds.isEmpty()) {
+            return counts;
+        }
+
+        Map<String, Long> loaded = new LinkedHashMap<>();
+        missedIds.forEach(productId -> loaded.put(productId, 0L));
+        findByProductCodes(missedIds).forEach(likeSummary -> loaded.put(likeSummary.getProductId(), likeSummary.getLikesCount()));
+
+        Map<String, Long> toCache = new LinkedHashMap<>();
+        loaded.forEach((productId, count) -> toCache.put(cacheKeys.get(productId), count));
+        redisCacheTemplate.setAll(toCache, ttl);
+
+        counts.putAll(loaded);
+        return counts;
+    }
+
+    /**
+     * 좋아요 증감분 일괄 반영 (상품코드 순으로 정렬해 락 획득 순서를 고정)
+     * @param deltas
+     */
+    @Override
+    @Transactional
+    public void applyDeltas(Map<String, Long> deltas) {
+        List<Object[]> params = new ArrayList<>(deltas.size());
+        List<String> evictKeys = new ArrayList<>();
+        deltas.entrySet().stream()
+            .filter(entry -> entry.getValue() != 0)
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> {
+                params.add(new Object[]{entry.getKey(), entry.getValue(), entry.getValue()});
+                evictKeys.add(likeCountKey(entry.getKey()));
+            });
+
+        if (!params.isEmpty()) {
+            jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, params);
+            evictAfterCommit(evictKeys);
+        }
+    }
+
+    /**
+     * 커밋 전에 지우면 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 삭제
+     */
+    private void evictAfterCommit(List<String> cacheKeys) {
+        Runnable evict = () -> redisCacheTemplate.deleteAll(cacheKeys);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+
+    private String likeCountKey(String productId) {
+        return RedisCacheTemplate.generateKey("like", "count", productId);
+    }
+
 }
@@ -2,6 +2,7 @@ package com.loopers.infrastructure.order;
 
 import com.loopers.domain.domainEnum.OrderStatus;
 import com.loopers.domain.order.Order;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -31,6 +32,12 @@ public interface OrderJpaRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o WHERE o.userId = :userId")
     List<Order> findAllByUserId(@Param("userId") String userId);
 
+    /**
+     * 주문번호 목록으로 주문 조회
+     */
+    @Query("SELECT o FROM Order o WHERE o.orderNo IN :orderNos")
+    List<Order> findAllByOrderNoIn(@Param("orderNos") Collection<String> orderNos);
+
     /**
      *  주문상태 변경
      */
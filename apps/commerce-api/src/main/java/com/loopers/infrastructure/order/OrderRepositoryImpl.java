@@ -2,16 +2,31 @@ package com.loopers.infrastructure.order;
 
 import com.loopers.domain.domainEnum.OrderStatus;
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderDetail;
 import com.loopers.domain.order.OrderRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class OrderRepositoryImpl implements OrderRepository {
+    private static final String INSERT_ORDER_SQL =
+        "INSERT INTO orders (order_no, user_id, order_status, coupon_no, total_amount, discount_amount, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, NOW(6), NOW(6))";
+    private static final String INSERT_ORDER_DETAIL_SQL =
+        "INSERT INTO order_details (order_no, product_id, quantity, unit_price, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, NOW(6), NOW(6))";
+
     private final OrderJpaRepository orderJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 주문 생성
@@ -23,6 +38,48 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderJpaRepository.save(order);
     }
 
+    /**
+     * 주문/주문상세 일괄 저장
+     * orders를 batch로 넣고 생성된 id를 주문번호로 한 번에 조회한 뒤 order_details를 batch로 넣는다.
+     * (order_details.order_no는 orders.id를 참조)
+     */
+    @Override
+    public void insertAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, orders.stream()
+            .map(order -> new Object[]{
+                order.getOrderNo(), order.getUserId(), order.getOrderStatus().name(), order.getCouponNo(),
+                order.getTotalAmount(), order.getDiscountAmount()
+            })
+            .toList());
+
+        List<String> orderNos = orders.stream().map(Order::getOrderNo).toList();
+        Map<String, Long> orderIds = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT id, order_no FROM orders WHERE order_no IN (" + String.join(",", Collections.nCopies(orderNos.size(), "?")) + ")",
+            rs -> {
+                orderIds.put(rs.getString("order_no"), rs.getLong("id"));
+            },
+            orderNos.toArray()
+        );
+
+        List<Object[]> detailParams = new ArrayList<>();
+        for (Order order : orders) {
+            Long orderId = orderIds.get(order.getOrderNo());
+            for (OrderDetail detail : order.getOrderDetailList()) {
+                detailParams.add(new Object[]{orderId, detail.getProductId(), detail.getQuantity(), detail.getUnitPrice()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_ORDER_DETAIL_SQL, detailParams);
+    }
+
+    @Override
+    public List<Order> findAllByOrderNos(Collection<String> orderNos) {
+        return orderNos.isEmpty() ? List.of() : orderJpaRepository.findAllByOrderNoIn(orderNos);
+    }
+
     /**
      * 주문서 조회
      */
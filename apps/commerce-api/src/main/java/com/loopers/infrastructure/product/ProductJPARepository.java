@@ -3,14 +3,21 @@ package com.loopers.infrastructure.product;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.SortBy;
 import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface ProductJPARepository extends JpaRepository<Product, Long> {
+    String BRAND_SELECT = "SELECT p, p.likeCount FROM Product p WHERE p.brand = :brandCode AND p.useYn = true ";
+    String BRAND_COUNT = "SELECT count(p) FROM Product p WHERE p.brand = :brandCode AND p.useYn = true";
 
     /**
      * 물품조회(비관락)
@@ -21,6 +28,22 @@ public interface ProductJPARepository extends JpaRepository<Product, Long> {
     @Query("select p from Product p where p.code = :productId")
     Product findProductByCodeForUpdate(@Param("productId") String productId);
 
+    /**
+     * 재고가 충분할 때만 차감 (반환값이 0이면 재고 부족 또는 상품 없음)
+     */
+    @Modifying
+    @Query(value = "UPDATE products SET quantity = quantity - :quantity, updated_at = NOW(6) " +
+        "WHERE code = :code AND quantity >= :quantity", nativeQuery = true)
+    int decreaseQuantity(@Param("code") String code, @Param("quantity") Long quantity);
+
+    /**
+     * 재고 복원 (주문 취소)
+     */
+    @Modifying
+    @Query(value = "UPDATE products SET quantity = quantity + :quantity, updated_at = NOW(6) " +
+        "WHERE code = :code", nativeQuery = true)
+    int increaseQuantity(@Param("code") String code, @Param("quantity") Long quantity);
+
     /**
      * 물품 저장
      * @param product
@@ -37,27 +60,133 @@ public interface ProductJPARepository extends JpaRepository<Product, Long> {
     Product findByCode(@Param("code") String code);
 
 
+    /**
+     * 물품 코드 목록으로 조회
+     * @param codes
+     * @return
+     */
+    @Query("select p from Product p where p.code in :codes")
+    List<Product> findAllByCodeIn(@Param("codes") Collection<String> codes);
+
+
     int countAllByCode(String code);
 
     /**
-     * 삼품목록 조회
+     * 판매중인 상품이 있는 브랜드 목록 (랭킹 재생성용)
+     * @return
+     */
+    @Query("select distinct p.brand from Product p where p.brand is not null and p.useYn = true")
+    List<String> findAllBrandCodes();
+
+    /**
+     * 브랜드 랭킹 재생성용 조회 [code, price, likeCount]
+     * @param brandCode
+     * @return
+     */
+    @Query("select p.code, p.price, p.likeCount from Product p where p.brand = :brandCode and p.useYn = true")
+    List<Object[]> findRankingRowsByBrand(@Param("brandCode") String brandCode);
+
+    /**
+     * 삼품목록 조회 (전체 브랜드)
      * @param brandCode
      * @param pageable
      * @return
      */
-    @Query("SELECT p, COALESCE(ls.likesCount, 0) as likesCount FROM Product p " +
-        "LEFT JOIN LikeSummary ls ON p.code = ls.productId " +
+    @Query("SELECT p, p.likeCount FROM Product p " +
         "WHERE (:brandCode IS NULL OR p.brand = :brandCode) " +
         "AND p.useYn = true " +
         "ORDER BY " +
-        "CASE WHEN :sortBy = 'LIKE_ASC' THEN COALESCE(ls.likesCount, 0) END ASC, " +
-        "CASE WHEN :sortBy = 'LIKE_DESC' THEN COALESCE(ls.likesCount, 0) END DESC, " +
+        "CASE WHEN :sortBy = 'LIKE_ASC' THEN p.likeCount END ASC, " +
+        "CASE WHEN :sortBy = 'LIKE_DESC' THEN p.likeCount END DESC, " +
         "CASE WHEN :sortBy = 'PRICE_ASC' THEN p.price END ASC, " +
         "CASE WHEN :sortBy = 'PRICE_DESC' THEN p.price END DESC, " +
         "CASE WHEN :sortBy = 'LATEST' THEN p.createdAt END DESC, " +
         "p.code ASC")
     Page<Object[]> findProductListByBrandCode(String brandCode, @Param("sortBy") String sortBy, Pageable pageable);
 
+    // ===== 브랜드별 상품목록 - 정렬 조건별 전용 쿼리 (brand, use_yn, 정렬키, code 인덱스 사용) =====
+    // code 정렬 방향은 인덱스를 정방향/역방향으로 그대로 읽을 수 있도록 정렬키 방향에 맞춘다 (filesort 없음)
+    // 랭킹 ZSET(reverseRange)도 같은 score면 code 역순이므로 좋아요/가격 내림차순은 어느 경로든 동점 순서가 같다
+
+    @Query(value = BRAND_SELECT + "ORDER BY p.likeCount DESC, p.code DESC", countQuery = BRAND_COUNT)
+    Page<Object[]> findPageByBrandOrderByLikeDesc(@Param("brandCode") String brandCode, Pageable pageable);
+
+    @Query(value = BRAND_SELECT + "ORDER BY p.likeCount ASC, p.code ASC", countQuery = BRAND_COUNT)
+    Page<Object[]> findPageByBrandOrderByLikeAsc(@Param("brandCode") String brandCode, Pageable pageable);
+
+    @Query(value = BRAND_SELECT + "ORDER BY p.price ASC, p.code ASC", countQuery = BRAND_COUNT)
+    Page<Object[]> findPageByBrandOrderByPriceAsc(@Param("brandCode") String brandCode, Pageable pageable);
+
+    @Query(value = BRAND_SELECT + "ORDER BY p.price DESC, p.code DESC", countQuery = BRAND_COUNT)
+    Page<Object[]> findPageByBrandOrderByPriceDesc(@Param("brandCode") String brandCode, Pageable pageable);
+
+    @Query(value = BRAND_SELECT + "ORDER BY p.createdAt DESC, p.code DESC", countQuery = BRAND_COUNT)
+    Page<Object[]> findPageByBrandOrderByLatest(@Param("brandCode") String brandCode, Pageable pageable);
+
+    /**
+     * like_summary를 비정규화 컬럼(like_count)에 반영 (like_summary 행이 없는 상품은 0)
+     * @param productIds
+     * @return
+     */
+    @Modifying
+    @Query(value = "UPDATE products p " +
+        "SET p.like_count = COALESCE((SELECT ls.likes_count FROM like_summary ls WHERE ls.product_id = p.code), 0) " +
+        "WHERE p.code IN (:productIds)", nativeQuery = true)
+    int syncLikeCount(@Param("productIds") Collection<String> productIds);
+
+    /**
+     * 상품코드 keyset 조회 (like_count 전체 backfill용)
+     */
+    @Query("select p.code from Product p where p.code > :after order by p.code")
+    List<String> findCodesAfter(@Param("after") String after, Pageable pageable);
+
+    // ===== keyset(cursor) 페이징 - 정렬 조건별 전용 쿼리, count 쿼리 없음 =====
+
+    @Query(BRAND_SELECT + "ORDER BY p.likeCount DESC, p.code DESC")
+    List<Object[]> findFirstPageByBrandOrderByLikeDesc(@Param("brandCode") String brandCode, Pageable pageable);
+
+    @Query(BRAND_SELECT +
+        "AND (p.likeCount < :likeCount OR (p.likeCount = :likeCount AND p.code < :code)) " +
+        "ORDER BY p.likeCount DESC, p.code DESC")
+    List<Object[]> findNextPageByBrandOrderByLikeDesc(@Param("brandCode") String brandCode, @Param("likeCount") Long likeCount,
+        @Param("code") String code, Pageable pageable);
+
+    @Query(BRAND_SELECT + "ORDER BY p.likeCount ASC, p.code ASC")
+    List<Object[]> findFirstPageByBrandOrderByLikeAsc(@Param("brandCode") String brandCode, Pageable pageable);
+
+    @Query(BRAND_SELECT +
+        "AND (p.likeCount > :likeCount OR (p.likeCount = :likeCount AND p.code > :code)) " +
+        "ORDER BY p.likeCount ASC, p.code ASC")
+    List<Object[]> findNextPageByBrandOrderByLikeAsc(@Param("brandCode") String brandCode, @Param("likeCount") Long likeCount,
+        @Param("code") String code, Pageable pageable);
+
+    @Query(BRAND_SELECT + "ORDER BY p.price ASC, p.code ASC")
+    List<Object[]> findFirstPageByBrandOrderByPriceAsc(@Param("brandCode") String brandCode, Pageable pageable);
+
+    @Query(BRAND_SELECT +
+        "AND (p.price > :price OR (p.price = :price AND p.code > :code)) " +
+        "ORDER BY p.price ASC, p.code ASC")
+    List<Object[]> findNextPageByBrandOrderByPriceAsc(@Param("brandCode") String brandCode, @Param("price") BigDecimal price,
+        @Param("code") String code, Pageable pageable);
+
+    @Query(BRAND_SELECT + "ORDER BY p.price DESC, p.code DESC")
+    List<Object[]> findFirstPageByBrandOrderByPriceDesc(@Param("brandCode") String brandCode, Pageable pageable);
+
+    @Query(BRAND_SELECT +
+        "AND (p.price < :price OR (p.price = :price AND p.code < :code)) " +
+        "ORDER BY p.price DESC, p.code DESC")
+    List<Object[]> findNextPageByBrandOrderByPriceDesc(@Param("brandCode") String brandCode, @Param("price") BigDecimal price,
+        @Param("code") String code, Pageable pageable);
+
+    @Query(BRAND_SELECT + "ORDER BY p.createdAt DESC, p.code DESC")
+    List<Object[]> findFirstPageByBrandOrderByLatest(@Param("brandCode") String brandCode, Pageable pageable);
+
+    @Query(BRAND_SELECT +
+        "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.code < :code)) " +
+        "ORDER BY p.createdAt DESC, p.code DESC")
+    List<Object[]> findNextPageByBrandOrderByLatest(@Param("brandCode") String brandCode, @Param("createdAt") ZonedDateTime createdAt,
+        @Param("code") String code, Pageable pageable);
+
     /**
      * 재고 조정
      * @param productId
@@ -0,0 +1,55 @@
+package com.loopers.infrastructure.product;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브랜드별 상품 랭킹 전체 재생성 (MySQL -> Redis ZSET)
+ * 주기적으로 전체 브랜드를 재생성해 증분 반영 중 유실된 변경을 보정하고,
+ * 랭킹이 없는 브랜드가 조회되면 해당 브랜드만 비동기로 재생성한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductRankingRebuilder {
+    private final ProductJPARepository productJPARepository;
+    private final ProductRankingRepositoryImpl productRankingRepository;
+    private final Set<String> rebuilding = ConcurrentHashMap.newKeySet();
+
+    @Scheduled(cron = "${product.ranking.rebuild-cron:0 */10 * * * *}")
+    public void rebuildAll() {
+        if (!productRankingRepository.isEnabled()) {
+            return;
+        }
+        List<String> brandCodes = productJPARepository.findAllBrandCodes();
+        brandCodes.forEach(this::rebuild);
+        log.info("Ranking rebuild finished - brands: {}", brandCodes.size());
+    }
+
+    /**
+     * 랭킹 미스 시 해당 브랜드 재생성 요청 (같은 브랜드 중복 요청은 무시)
+     */
+    @Async("taskExecutor")
+    public void requestRebuild(String brandCode) {
+        rebuild(brandCode);
+    }
+
+    public void rebuild(String brandCode) {
+        if (!rebuilding.add(brandCode)) {
+            return;
+        }
+        try {
+            productRankingRepository.replace(brandCode, productJPARepository.findRankingRowsByBrand(brandCode));
+        } catch (Exception e) {
+            log.warn("Ranking rebuild failed - brand: {}, error: {}", brandCode, e.getMessage());
+        } finally {
+            rebuilding.remove(brandCode);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisCacheTemplate;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRankingPage;
+import com.loopers.domain.product.ProductRankingRepository;
+import com.loopers.domain.product.SortBy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브랜드별 상품 랭킹 (Redis ZSET)
+ * rank:brand:{code}:likes (score = 좋아요 수), rank:brand:{code}:price (score = 가격), member = 상품코드
+ * ZSET이 없는 브랜드는 증분 반영하지 않는다 (일부만 담긴 랭킹이 완전한 것처럼 조회되지 않도록)
+ * 상품이 없는 브랜드는 rank:brand:{code}:empty 마커를 남겨, 조회마다 재생성을 요청하지 않게 한다.
+ */
+@Component
+@Slf4j
+public class ProductRankingRepositoryImpl implements ProductRankingRepository {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    // 주기 재생성 간격 - 상품이 없던 브랜드도 이 주기로 다시 확인
+    private static final Duration EMPTY_MARKER_TTL = Duration.ofMinutes(10);
+
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('exists', KEYS[1]) == 1 then redis.call('zincrby', KEYS[1], ARGV[1], ARGV[2]) return 1 end return 0",
+        Long.class
+    );
+
+    // 좋아요 랭킹은 신규 상품만 추가(NX), 가격 랭킹은 항상 갱신, 빈 브랜드 마커는 제거 (다음 조회에서 재생성)
+    private static final RedisScript<Long> UPSERT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('del', KEYS[3]) " +
+        "local updated = 0 " +
+        "if redis.call('exists', KEYS[1]) == 1 then redis.call('zadd', KEYS[1], 'NX', ARGV[1], ARGV[3]) updated = updated + 1 end " +
+        "if redis.call('exists', KEYS[2]) == 1 then redis.call('zadd', KEYS[2], ARGV[2], ARGV[3]) updated = updated + 1 end " +
+        "return updated",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final boolean enabled;
+
+    public ProductRankingRepositoryImpl(
+        RedisTemplate<String, String> redisTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        @Value("${product.ranking.enabled:true}") boolean enabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean supports(SortBy sortBy) {
+        return enabled && (sortBy == SortBy.LIKE_DESC || sortBy == SortBy.PRICE_ASC || sortBy == SortBy.PRICE_DESC);
+    }
+
+    @Override
+    public Optional<ProductRankingPage> findPage(String brandCode, SortBy sortBy, int page, int size) {
+        if (brandCode == null || !supports(sortBy)) {
+            return Optional.empty();
+        }
+        String key = sortBy == SortBy.LIKE_DESC ? likesKey(brandCode) : priceKey(brandCode);
+        boolean reverse = sortBy != SortBy.PRICE_ASC;
+        long start = (long) page * size;
+        long end = start + size - 1;
+
+        try {
+            // 페이지 조회와 전체 건수를 한 번의 왕복으로 조회
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> pipeline = (RedisOperations<String, String>) operations;
+                    if (reverse) {
+                        pipeline.opsForZSet().reverseRange(key, start, end);
+                    } else {
+                        pipeline.opsForZSet().range(key, start, end);
+                    }
+                    pipeline.opsForZSet().zCard(key);
+                    pipeline.hasKey(emptyKey(brandCode));
+                    return null;
+                }
+            });
+
+            Long total = (Long) results.get(1);
+            if (total == null || total == 0) {
+                if (Boolean.TRUE.equals(results.get(2))) {
+                    return Optional.of(new ProductRankingPage(List.of(), Map.of(), 0));
+                }
+                log.debug("Ranking miss - key: {}", key);
+                return Optional.empty();
+            }
+            @SuppressWarnings("unchecked")
+            Set<String> productIds = (Set<String>) results.get(0);
+            List<String> ids = productIds != null ? new ArrayList<>(productIds) : List.of();
+            return Optional.of(new ProductRankingPage(ids, likeCounts(brandCode, ids), total));
+        } catch (Exception e) {
+            log.warn("Failed to read ranking - key: {}, error: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 좋아요 ZSET score (정렬에 쓰인 값과 화면의 좋아요 수가 어긋나지 않도록 함께 반환)
+     */
+    private Map<String, Long> likeCounts(String brandCode, List<String> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Double> scores = redisTemplate.opsForZSet().score(likesKey(brandCode), productIds.toArray());
+        Map<String, Long> likeCounts = new LinkedHashMap<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            Double score = scores != null ? scores.get(i) : null;
+            if (score != null) {
+                likeCounts.put(productIds.get(i), score.longValue());
+            }
+        }
+        return likeCounts;
+    }
+
+    @Override
+    public void incrementLikeCount(String brandCode, String productId, long delta) {
+        if (!enabled || brandCode == null) {
+            return;
+        }
+        try {
+            masterRedisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(likesKey(brandCode)),
+                String.valueOf(delta), productId);
+        } catch (Exception e) {
+            log.warn("Failed to increment ranking - brand: {}, productId: {}, error: {}", brandCode, productId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void upsert(Product product) {
+        if (!enabled || product.getBrand() == null) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(product.getUseYn())) {
+            remove(product.getBrand(), product.getCode());
+            return;
+        }
+        try {
+            masterRedisTemplate.execute(UPSERT_IF_EXISTS_SCRIPT,
+                List.of(likesKey(product.getBrand()), priceKey(product.getBrand()), emptyKey(product.getBrand())),
+                String.valueOf(likeScore(product.getLikeCount())), String.valueOf(priceScore(product.getPrice())), product.getCode());
+        } catch (Exception e) {
+            log.warn("Failed to upsert ranking - productId: {}, error: {}", product.getCode(), e.getMessage());
+        }
+    }
+
+    /**
+     * 브랜드 랭킹 전체 교체 - 임시 키에 적재 후 RENAME (조회 중인 랭킹이 비는 구간 없음)
+     * @param rows [code, price, likeCount]
+     */
+    public void replace(String brandCode, List<Object[]> rows) {
+        String suffix = ":tmp:" + UUID.randomUUID();
+        String likesTemp = likesKey(brandCode) + suffix;
+        String priceTemp = priceKey(brandCode) + suffix;
+
+        for (int from = 0; from < rows.size(); from += REBUILD_BATCH_SIZE) {
+            List<Object[]> batch = rows.subList(from, Math.min(from + REBUILD_BATCH_SIZE, rows.size()));
+            Set<TypedTuple<String>> likes = new HashSet<>();
+            Set<TypedTuple<String>> prices = new HashSet<>();
+            for (Object[] row : batch) {
+                String code = (String) row[0];
+                prices.add(TypedTuple.of(code, priceScore((BigDecimal) row[1])));
+                likes.add(TypedTuple.of(code, likeScore((Long) row[2])));
+            }
+            masterRedisTemplate.opsForZSet().add(likesTemp, likes);
+            masterRedisTemplate.opsForZSet().add(priceTemp, prices);
+        }
+
+        if (rows.isEmpty()) {
+            masterRedisTemplate.delete(List.of(likesKey(brandCode), priceKey(brandCode)));
+            masterRedisTemplate.opsForValue().set(emptyKey(brandCode), "1", EMPTY_MARKER_TTL);
+        } else {
+            masterRedisTemplate.rename(likesTemp, likesKey(brandCode));
+            masterRedisTemplate.rename(priceTemp, priceKey(brandCode));
+            masterRedisTemplate.delete(emptyKey(brandCode));
+        }
+        log.info("Rebuilt ranking - brand: {}, products: {}", brandCode, rows.size());
+    }
+
+    private void remove(String brandCode, String productId) {
+        try {
+            masterRedisTemplate.opsForZSet().remove(likesKey(brandCode), productId);
+            masterRedisTemplate.opsForZSet().remove(priceKey(brandCode), productId);
+        } catch (Exception e) {
+            log.warn("Failed to remove ranking - productId: {}, error: {}", productId, e.getMessage());
+        }
+    }
+
+    private double likeScore(Long likeCount) {
+        return likeCount != null ? likeCount : 0L;
+    }
+
+    private double priceScore(BigDecimal price) {
+        return price != null ? price.doubleValue() : 0d;
+    }
+
+    static String likesKey(String brandCode) {
+        return RedisCacheTemplate.generateKey("rank", "brand", brandCode, "likes");
+    }
+
+    static String priceKey(String brandCode) {
+        return RedisCacheTemplate.generateKey("rank", "brand", brandCode, "price");
+    }
+
+    static String emptyKey(String brandCode) {
+        return RedisCacheTemplate.generateKey("rank", "brand", brandCode, "empty");
+    }
+}
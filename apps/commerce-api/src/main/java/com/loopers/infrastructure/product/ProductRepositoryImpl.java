@@ -1,28 +1,54 @@
 package com.loopers.infrastructure.product;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.loopers.application.product.ProductCursorResult;
 import com.loopers.application.product.ProductPageResult;
+import com.loopers.config.redis.HotKeyDetector;
 import com.loopers.config.redis.RedisCacheTemplate;
 import com.loopers.domain.domainEnum.OrderStatus;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCursor;
 import com.loopers.domain.product.ProductInfo;
+import com.loopers.domain.product.ProductRankingPage;
+import com.loopers.domain.product.ProductRankingRepository;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.SortBy;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.sql.Statement;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ProductRepositoryImpl implements ProductRepository {
+    private static final String STOCK_HOT_KEY_NAMESPACE = "stock";
+    private static final String DECREASE_STOCK_SQL =
+        "UPDATE products SET quantity = quantity - ?, updated_at = NOW(6) WHERE code = ? AND quantity >= ?";
+
     private final ProductJPARepository productJPARepository;
     private final RedisCacheTemplate redisCacheTemplate;
+    private final ProductRankingRepository productRankingRepository;
+    private final ProductRankingRebuilder productRankingRebuilder;
+    private final HotKeyDetector hotKeyDetector;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Product findProductForUpdate(String productId) {
@@ -36,16 +62,51 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     /**
      * 캐시에서 Product 조회 (캐시 미스 시 supplier 호출)
+     * L1에는 같은 인스턴스가 공유되므로 캐시에는 분리된 사본을 넣고, 호출자에게도 사본을 돌려준다.
      */
     @Override
     public Product findProductWithCache(String productId, Duration ttl) {
         String cacheKey = RedisCacheTemplate.generateKey("product", productId);
         log.debug("findProductWithCache - key: {}, ttl: {}", cacheKey, ttl);
 
-        return redisCacheTemplate.getOrSet(cacheKey, Product.class, ttl, () -> {
+        Product product = redisCacheTemplate.getOrSet(cacheKey, Product.class, ttl, () -> {
             log.debug("Cache miss - DB에서 조회: {}", productId);
-            return productJPARepository.findByCode(productId);
+            Product loaded = productJPARepository.findByCode(productId);
+            return loaded != null ? loaded.copy() : null;
         });
+        return product != null ? product.copy() : null;
+    }
+
+    /**
+     * 캐시에서 Product 목록 조회 (MGET 후 캐시 미스만 IN 쿼리로 조회)
+     */
+    @Override
+    public Map<String, Product> findProductsWithCache(List<String> productIds, Duration ttl) {
+        Map<String, String> cacheKeys = new LinkedHashMap<>();
+        productIds.forEach(productId -> cacheKeys.put(productId, RedisCacheTemplate.generateKey("product", productId)));
+
+        Map<String, Product> cached = redisCacheTemplate.getAll(cacheKeys.values(), Product.class);
+
+        Map<String, Product> products = new LinkedHashMap<>();
+        List<String> missedIds = new ArrayList<>();
+        cacheKeys.forEach((productId, cacheKey) -> {
+            Product product = cached.get(cacheKey);
+            if (product != null) {
+                products.put(productId, product.copy());
+            } else {
+                missedIds.add(productId);
+            }
+        });
+        log.debug("findProductsWithCache - requested: {}, cache miss: {}", cacheKeys.size(), missedIds.size());
+
+        if (!missedIds.isEmpty()) {
+            Map<String, Product> loaded = new LinkedHashMap<>();
+            productJPARepository.findAllByCodeIn(missedIds)
+                .forEach(product -> loaded.put(cacheKeys.get(product.getCode()), product.copy()));
+            redisCacheTemplate.setAll(loaded, ttl);
+            loaded.values().forEach(product -> products.put(product.getCode(), product.copy()));
+        }
+        return products;
     }
 
     @Override
@@ -53,8 +114,16 @@ public class ProductRepositoryImpl implements ProductRepository {
         // sortBy가 null인 경우 기본값 사용
         SortBy actualSortBy = sortBy != null ? sortBy : SortBy.LIKE_DESC;
 
+        // 랭킹(ZSET)이 있으면 정렬 순서는 Redis에서, 상품은 상세 캐시에서 조회
+        Optional<ProductPageResult> ranked = findProductListFromRanking(brandCode, actualSortBy, pageable, ttl);
+        if (ranked.isPresent()) {
+            return ranked.get();
+        }
+
+        // 브랜드별 generation을 키에 포함 (무효화 시 generation 증가)
+        long generation = redisCacheTemplate.currentGeneration(brandNamespace(brandCode));
         String cacheKey = RedisCacheTemplate.generateKey(
-            "product", "brand", brandCode, pageable.getPageNumber(), pageable.getPageSize(), actualSortBy.name()
+            "product", "brand", brandCode, "v" + generation, pageable.getPageNumber(), pageable.getPageSize(), actualSortBy.name()
         );
         log.debug("findProductListByBrandCodeWithCache - key: {}, ttl: {}", cacheKey, ttl);
 
@@ -62,10 +131,8 @@ public class ProductRepositoryImpl implements ProductRepository {
             log.debug("Cache miss - DB에서 조회: brand={}, page={}, size={}, sort={}",
                 brandCode, pageable.getPageNumber(), pageable.getPageSize(), actualSortBy);
 
-            // LikeSummary와 조인하여 정렬된 결과 조회
-            Page<Object[]> resultPage = productJPARepository.findProductListByBrandCode(
-                brandCode, actualSortBy.name(), pageable
-            );
+            // 비정규화된 like_count로 정렬된 결과 조회
+            Page<Object[]> resultPage = findPage(brandCode, actualSortBy, pageable);
 
             // Object[]를 ProductInfo로 변환 (Product + likesCount)
             List<ProductInfo> productInfos = resultPage.getContent().stream()
@@ -96,12 +163,126 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
 
+    /**
+     * 랭킹 ZSET 기반 목록 조회 (ZREVRANGE/ZRANGE + 상세 캐시 MGET)
+     * 좋아요 수는 정렬에 쓰인 ZSET score로 덮어써 순서와 표시 값이 어긋나지 않게 한다.
+     * 랭킹이 없으면 비동기 재생성을 요청하고 empty를 반환해 SQL로 조회한다.
+     */
+    private Optional<ProductPageResult> findProductListFromRanking(String brandCode, SortBy sortBy, Pageable pageable, Duration ttl) {
+        if (brandCode == null || !productRankingRepository.supports(sortBy)) {
+            return Optional.empty();
+        }
+        Optional<ProductRankingPage> rankingPage = productRankingRepository.findPage(
+            brandCode, sortBy, pageable.getPageNumber(), pageable.getPageSize()
+        );
+        if (rankingPage.isEmpty()) {
+            productRankingRebuilder.requestRebuild(brandCode);
+            return Optional.empty();
+        }
+
+        List<String> productIds = rankingPage.get().productIds();
+        Map<String, Long> likeCounts = rankingPage.get().likeCounts();
+        Map<String, Product> products = productIds.isEmpty() ? Map.of() : findProductsWithCache(productIds, ttl);
+        List<ProductInfo> productInfos = productIds.stream()
+            .map(products::get)
+            .filter(Objects::nonNull)
+            .map(product -> {
+                ProductInfo productInfo = ProductInfo.from(product);
+                Long likeCount = likeCounts.get(product.getCode());
+                if (likeCount != null) {
+                    productInfo.setLikeCount(likeCount);
+                }
+                return productInfo;
+            })
+            .toList();
+
+        long totalElements = rankingPage.get().totalElements();
+        int page = pageable.getPageNumber();
+        int size = pageable.getPageSize();
+        int totalPages = (int) ((totalElements + size - 1) / size);
+
+        return Optional.of(ProductPageResult.builder()
+            .products(productInfos)
+            .page(page)
+            .size(size)
+            .totalElements(totalElements)
+            .totalPages(totalPages)
+            .hasNext(page + 1 < totalPages)
+            .hasPrevious(page > 0)
+            .isFirst(page == 0)
+            .isLast(page + 1 >= totalPages)
+            .build());
+    }
+
+    @Override
+    public ProductCursorResult findProductListByBrandCodeAfter(String brandCode, SortBy sortBy, ProductCursor cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 size + 1건 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Object[]> rows = switch (sortBy) {
+            case LIKE_DESC -> cursor == null
+                ? productJPARepository.findFirstPageByBrandOrderByLikeDesc(brandCode, limit)
+                : productJPARepository.findNextPageByBrandOrderByLikeDesc(brandCode, cursor.likeCount(), cursor.code(), limit);
+            case LIKE_ASC -> cursor == null
+                ? productJPARepository.findFirstPageByBrandOrderByLikeAsc(brandCode, limit)
+                : productJPARepository.findNextPageByBrandOrderByLikeAsc(brandCode, cursor.likeCount(), cursor.code(), limit);
+            case PRICE_ASC -> cursor == null
+                ? productJPARepository.findFirstPageByBrandOrderByPriceAsc(brandCode, limit)
+                : productJPARepository.findNextPageByBrandOrderByPriceAsc(brandCode, cursor.price(), cursor.code(), limit);
+            case PRICE_DESC -> cursor == null
+                ? productJPARepository.findFirstPageByBrandOrderByPriceDesc(brandCode, limit)
+                : productJPARepository.findNextPageByBrandOrderByPriceDesc(brandCode, cursor.price(), cursor.code(), limit);
+            case LATEST -> cursor == null
+                ? productJPARepository.findFirstPageByBrandOrderByLatest(brandCode, limit)
+                : productJPARepository.findNextPageByBrandOrderByLatest(brandCode, cursor.createdAt(), cursor.code(), limit);
+        };
+
+        boolean hasNext = rows.size() > size;
+        List<Object[]> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<ProductInfo> productInfos = pageRows.stream()
+            .map(row -> {
+                ProductInfo productInfo = ProductInfo.from((Product) row[0]);
+                productInfo.setLikeCount((Long) row[1]);
+                return productInfo;
+            })
+            .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Object[] last = pageRows.get(pageRows.size() - 1);
+            nextCursor = ProductCursor.of(sortBy, (Product) last[0], (Long) last[1]).encode();
+        }
+
+        return ProductCursorResult.builder()
+            .products(productInfos)
+            .size(productInfos.size())
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
     @Override
     public Page<Object[]> findProductListByBrandCode(String brandCode, SortBy sortBy, Pageable pageable) {
         // sortBy가 null인 경우 기본값 사용
         SortBy actualSortBy = sortBy != null ? sortBy : SortBy.LIKE_DESC;
 
-        return productJPARepository.findProductListByBrandCode(brandCode, actualSortBy.name(), pageable);
+        return findPage(brandCode, actualSortBy, pageable);
+    }
+
+    /**
+     * 브랜드가 지정되면 정렬 조건별 전용 쿼리(인덱스 사용), 전체 브랜드는 공통 쿼리로 조회
+     */
+    private Page<Object[]> findPage(String brandCode, SortBy sortBy, Pageable pageable) {
+        if (brandCode == null) {
+            return productJPARepository.findProductListByBrandCode(null, sortBy.name(), pageable);
+        }
+        return switch (sortBy) {
+            case LIKE_DESC -> productJPARepository.findPageByBrandOrderByLikeDesc(brandCode, pageable);
+            case LIKE_ASC -> productJPARepository.findPageByBrandOrderByLikeAsc(brandCode, pageable);
+            case PRICE_ASC -> productJPARepository.findPageByBrandOrderByPriceAsc(brandCode, pageable);
+            case PRICE_DESC -> productJPARepository.findPageByBrandOrderByPriceDesc(brandCode, pageable);
+            case LATEST -> productJPARepository.findPageByBrandOrderByLatest(brandCode, pageable);
+        };
     }
 
     @Override
@@ -111,7 +292,8 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    public void updateProduct(String productId, Long quantity, OrderStatus orderStatus) {
+    public void updateProductPessimistic(String productId, Long quantity, OrderStatus orderStatus) {
+        hotKeyDetector.record(STOCK_HOT_KEY_NAMESPACE, productId);
 
         Product product = productJPARepository.findProductByCodeForUpdate(productId);
 
@@ -125,6 +307,50 @@ public class ProductRepositoryImpl implements ProductRepository {
         productJPARepository.save(product);
     }
 
+    /**
+     * 주문(ORDER_PLACED, ORDER_PAID)은 재고가 충분할 때만 차감, 취소(ORDER_CANCEL)는 복원
+     */
+    @Override
+    @Transactional
+    public boolean updateStock(String productId, Long quantity, OrderStatus orderStatus) {
+        hotKeyDetector.record(STOCK_HOT_KEY_NAMESPACE, productId);
+
+        if (orderStatus == OrderStatus.ORDER_PLACED || orderStatus == OrderStatus.ORDER_PAID) {
+            return productJPARepository.decreaseQuantity(productId, quantity) > 0;
+        }
+        if (orderStatus == OrderStatus.ORDER_CANCEL) {
+            return productJPARepository.increaseQuantity(productId, quantity) > 0;
+        }
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public Map<String, Boolean> decreaseStockBatch(Map<String, Long> quantities) {
+        Map<String, Long> sorted = new TreeMap<>(quantities);
+        List<Object[]> params = new ArrayList<>(sorted.size());
+        sorted.forEach((productId, quantity) -> {
+            hotKeyDetector.record(STOCK_HOT_KEY_NAMESPACE, productId);
+            params.add(new Object[]{quantity, productId, quantity});
+        });
+        if (params.isEmpty()) {
+            return Map.of();
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, params);
+
+        // 0이면 조건 불일치, SUCCESS_NO_INFO(-2)는 차감 여부를 알 수 없으므로 batch 전체를 롤백
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        int i = 0;
+        for (String productId : sorted.keySet()) {
+            int count = counts[i++];
+            if (count == Statement.SUCCESS_NO_INFO) {
+                throw new CoreException(ErrorType.INTERNAL_ERROR, "재고 차감 결과를 확인할 수 없습니다: " + productId);
+            }
+            results.put(productId, count > 0);
+        }
+        return results;
+    }
 
     @Override
     public void saveAll(List<Product> products) {
@@ -138,14 +364,32 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    public void invalidateProductCache(String productId) {
+    @Transactional
+    public int syncLikeCount(Collection<String> productIds) {
+        return productJPARepository.syncLikeCount(productIds);
+    }
+
+    @Override
+    public List<String> findCodesAfter(String after, int limit) {
+        return productJPARepository.findCodesAfter(after, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public void invalidateProductCache(String productId, String brandCode) {
         // 개별 상품 캐시 삭제
         String detailKey = RedisCacheTemplate.generateKey("product", productId);
         redisCacheTemplate.delete(detailKey);
 
-        // 관련 리스트 캐시 삭제
-        redisCacheTemplate.deleteByPattern("product:brand:*");
+        // 관련 리스트 캐시 무효화 (해당 브랜드 + 전체 브랜드 목록)
+        if (brandCode != null) {
+            redisCacheTemplate.bumpGeneration(brandNamespace(brandCode));
+        }
+        redisCacheTemplate.bumpGeneration(brandNamespace(null));
+
+        log.info("Invalidated product cache for productId: {}, brand: {}", productId, brandCode);
+    }
 
-        log.info("Invalidated product cache for productId: {}", productId);
+    private String brandNamespace(String brandCode) {
+        return RedisCacheTemplate.generateKey("product", "brand", brandCode);
     }
 }
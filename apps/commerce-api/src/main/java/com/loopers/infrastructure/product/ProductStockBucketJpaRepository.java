@@ -0,0 +1,53 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStockBucket;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProductStockBucketJpaRepository extends JpaRepository<ProductStockBucket, Long> {
+
+    /**
+     * bucket 재고가 충분할 때만 차감 (반환값이 0이면 bucket 재고 부족 또는 bucket 없음)
+     */
+    @Modifying
+    @Query(value = "UPDATE product_stock_bucket SET quantity = quantity - :quantity " +
+        "WHERE product_id = :productId AND bucket_no = :bucketNo AND quantity >= :quantity", nativeQuery = true)
+    int decreaseQuantity(@Param("productId") String productId, @Param("bucketNo") int bucketNo, @Param("quantity") long quantity);
+
+    /**
+     * 상품의 전체 bucket 비관락 조회 (bucket_no 순으로 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from ProductStockBucket b where b.productId = :productId order by b.bucketNo")
+    List<ProductStockBucket> findByProductIdForUpdate(@Param("productId") String productId);
+
+    /**
+     * 상품의 bucket별 재고 (잠그지 않는 조회) [bucketNo, quantity]
+     */
+    @Query("select b.bucketNo, b.quantity from ProductStockBucket b where b.productId = :productId order by b.bucketNo")
+    List<Object[]> findQuantitiesByProductId(@Param("productId") String productId);
+
+    /**
+     * 상품별 bucket 수 [productId, count]
+     */
+    @Query("select b.productId, count(b) from ProductStockBucket b group by b.productId")
+    List<Object[]> countGroupByProductId();
+
+    long countByProductId(String productId);
+
+    /**
+     * 상품별 bucket 재고 합계 [productId, sum]
+     */
+    @Query("select b.productId, sum(b.quantity) from ProductStockBucket b where b.productId in :productIds group by b.productId")
+    List<Object[]> sumByProductIds(@Param("productIds") Collection<String> productIds);
+
+    @Modifying
+    @Query("delete from ProductStockBucket b where b.productId = :productId")
+    int deleteByProductId(@Param("productId") String productId);
+}
@@ -0,0 +1,236 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisCacheTemplate;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductStockBucket;
+import com.loopers.domain.product.ProductStockBucketRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 재고 bucket 저장소
+ * 잠금 순서는 항상 products 행 -> bucket_no 순 bucket 행으로 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductStockBucketRepositoryImpl implements ProductStockBucketRepository {
+    private final ProductStockBucketJpaRepository productStockBucketJpaRepository;
+    private final ProductJPARepository productJPARepository;
+    private final RedisCacheTemplate redisCacheTemplate;
+
+    @Override
+    public Map<String, Integer> findBucketCounts() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Object[] row : productStockBucketJpaRepository.countGroupByProductId()) {
+            counts.put((String) row[0], ((Number) row[1]).intValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public int countBuckets(String productId) {
+        return (int) productStockBucketJpaRepository.countByProductId(productId);
+    }
+
+    @Override
+    public Map<Integer, Long> findQuantities(String productId) {
+        Map<Integer, Long> quantities = new LinkedHashMap<>();
+        for (Object[] row : productStockBucketJpaRepository.findQuantitiesByProductId(productId)) {
+            quantities.put(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
+        }
+        return quantities;
+    }
+
+    @Override
+    @Transactional
+    public boolean decrease(String productId, int bucketNo, long quantity) {
+        return productStockBucketJpaRepository.decreaseQuantity(productId, bucketNo, quantity) > 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean decreaseAcross(String productId, long quantity) {
+        List<ProductStockBucket> buckets = productStockBucketJpaRepository.findByProductIdForUpdate(productId);
+        long total = buckets.stream().mapToLong(ProductStockBucket::getQuantity).sum();
+        if (buckets.isEmpty() || total < quantity) {
+            return false;
+        }
+        long remaining = quantity;
+        for (ProductStockBucket bucket : buckets) {
+            long taken = Math.min(bucket.getQuantity(), remaining);
+            bucket.changeQuantity(bucket.getQuantity() - taken);
+            remaining -= taken;
+            if (remaining == 0) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean decreaseWithResidual(String productId, long quantity) {
+        Product product = productJPARepository.findProductByCodeForUpdate(productId);
+        List<ProductStockBucket> buckets = productStockBucketJpaRepository.findByProductIdForUpdate(productId);
+        if (product == null) {
+            return false;
+        }
+        long residual = product.getQuantity();
+        long total = residual + buckets.stream().mapToLong(ProductStockBucket::getQuantity).sum();
+        if (total < quantity) {
+            return false;
+        }
+        long fromResidual = Math.min(residual, quantity);
+        if (fromResidual > 0) {
+            productJPARepository.decreaseQuantity(productId, fromResidual);
+        }
+        long remaining = quantity - fromResidual;
+        for (ProductStockBucket bucket : buckets) {
+            if (remaining == 0) {
+                break;
+            }
+            long taken = Math.min(bucket.getQuantity(), remaining);
+            bucket.changeQuantity(bucket.getQuantity() - taken);
+            remaining -= taken;
+        }
+        return true;
+    }
+
+    @Override
+    public Map<String, Long> sumByProductIds(Collection<String> productIds) {
+        Map<String, Long> sums = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return sums;
+        }
+        for (Object[] row : productStockBucketJpaRepository.sumByProductIds(productIds)) {
+            sums.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return sums;
+    }
+
+    @Override
+    public Map<String, Long> sumByProductIdsWithCache(Collection<String> productIds, Duration ttl) {
+        Map<String, String> cacheKeys = new LinkedHashMap<>();
+        productIds.forEach(productId -> cacheKeys.put(productId, sumKey(productId)));
+        Map<String, Long> cached = redisCacheTemplate.getAll(cacheKeys.values(), Long.class);
+
+        Map<String, Long> sums = new HashMap<>();
+        List<String> missedIds = new ArrayList<>();
+        cacheKeys.forEach((productId, cacheKey) -> {
+            Long sum = cached.get(cacheKey);
+            if (sum != null) {
+                sums.put(productId, sum);
+            } else {
+                missedIds.add(productId);
+            }
+        });
+        if (missedIds.isEmpty()) {
+            return sums;
+        }
+
+        Map<String, Long> loaded = new HashMap<>();
+        missedIds.forEach(productId -> loaded.put(productId, 0L));
+        loaded.putAll(sumByProductIds(missedIds));
+
+        Map<String, Long> toCache = new LinkedHashMap<>();
+        loaded.forEach((productId, sum) -> toCache.put(cacheKeys.get(productId), sum));
+        redisCacheTemplate.setAll(toCache, ttl);
+
+        sums.putAll(loaded);
+        return sums;
+    }
+
+    @Override
+    @Transactional
+    public void split(String productId, int buckets) {
+        Product product = productJPARepository.findProductByCodeForUpdate(productId);
+        long quantity = product.getQuantity();
+        List<ProductStockBucket> rows = new ArrayList<>(buckets);
+        for (int bucketNo = 0; bucketNo < buckets; bucketNo++) {
+            rows.add(new ProductStockBucket(productId, bucketNo, share(quantity, buckets, bucketNo)));
+        }
+        productStockBucketJpaRepository.saveAll(rows);
+        if (quantity > 0) {
+            productJPARepository.decreaseQuantity(productId, quantity);
+        }
+        evictSumAfterCommit(productId);
+    }
+
+    @Override
+    @Transactional
+    public long merge(String productId) {
+        productJPARepository.findProductByCodeForUpdate(productId);
+        long total = productStockBucketJpaRepository.findByProductIdForUpdate(productId).stream()
+            .mapToLong(ProductStockBucket::getQuantity)
+            .sum();
+        productStockBucketJpaRepository.deleteByProductId(productId);
+        if (total > 0) {
+            productJPARepository.increaseQuantity(productId, total);
+        }
+        evictSumAfterCommit(productId);
+        return total;
+    }
+
+    @Override
+    @Transactional
+    public boolean rebalance(String productId) {
+        Product product = productJPARepository.findProductByCodeForUpdate(productId);
+        List<ProductStockBucket> buckets = productStockBucketJpaRepository.findByProductIdForUpdate(productId);
+        if (product == null || buckets.isEmpty()) {
+            return false;
+        }
+        long residual = product.getQuantity();
+        long total = residual + buckets.stream().mapToLong(ProductStockBucket::getQuantity).sum();
+        // 남은 재고가 없고 가장 적은 bucket이 평균의 절반 이상이면 그대로 둔다
+        long min = buckets.stream().mapToLong(ProductStockBucket::getQuantity).min().orElse(0);
+        if (residual == 0 && min * 2 >= total / buckets.size()) {
+            return false;
+        }
+        for (int i = 0; i < buckets.size(); i++) {
+            buckets.get(i).changeQuantity(share(total, buckets.size(), i));
+        }
+        if (residual > 0) {
+            productJPARepository.decreaseQuantity(productId, residual);
+            evictSumAfterCommit(productId);
+        }
+        return true;
+    }
+
+    /**
+     * products.quantity와 bucket 합계 사이에서 재고가 옮겨지면 합계 캐시를 커밋 후 삭제
+     */
+    private void evictSumAfterCommit(String productId) {
+        Runnable evict = () -> redisCacheTemplate.delete(sumKey(productId));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+
+    private String sumKey(String productId) {
+        return RedisCacheTemplate.generateKey("product", "stock-bucket", productId);
+    }
+
+    /**
+     * total을 buckets개로 나눈 i번째 몫 (나머지는 앞 bucket부터 1개씩)
+     */
+    private static long share(long total, int buckets, int i) {
+        return total / buckets + (i < total % buckets ? 1 : 0);
+    }
+}
@@ -0,0 +1,263 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisCacheTemplate;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.StockReservationRepository;
+import com.loopers.domain.product.StockReservationRepository.ConfirmResult;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 예약 (Redis)
+ * stock:{productId} = 가용 재고 미러, stock:reservation:{id} = 예약 상품별 수량 해시,
+ * stock:reservations = 진행 중 예약 ZSET (score = 만료 시각), stock:confirmed = 확정 후 미반영 수량 해시,
+ * stock:reservation:{id}:confirmed = 확정 시도 마커 (결제 후속 처리와 PG 콜백이 같은 주문을 두 번 차감하지 않도록)
+ * 예약/확정/해제는 Lua 스크립트로 원자적으로 처리하고, 진행 중 예약 ZSET에서 빠지는 쪽만 성공한다.
+ * (단일 master 기준 - 클러스터에서는 키를 같은 hash slot으로 묶어야 함)
+ */
+@Component
+@Slf4j
+public class StockReservationRepositoryImpl implements StockReservationRepository {
+    private static final String RESERVATIONS_KEY = "stock:reservations";
+    private static final String CONFIRMED_KEY = "stock:confirmed";
+    private static final String FLUSHING_KEY = "stock:confirmed:flushing";
+    private static final String FLUSH_LOCK_KEY = "stock:confirmed:flush-lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+    // PG 콜백이 늦게 와도 같은 주문을 다시 차감하지 않도록 결제 처리 기간보다 길게 유지
+    private static final Duration CONFIRMED_MARKER_TTL = Duration.ofDays(1);
+
+    // KEYS = [예약 해시, 예약 ZSET, 미러...], ARGV = [만료 시각, 예약 ID, 수량..., 상품코드...]
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+        "local n = #KEYS - 2 " +
+        "if redis.call('exists', KEYS[1]) == 1 then return 1 end " +
+        "for i = 1, n do " +
+        "  local available = redis.call('get', KEYS[i + 2]) " +
+        "  if not available then return -1 end " +
+        "  if tonumber(available) < tonumber(ARGV[i + 2]) then return 0 end " +
+        "end " +
+        "for i = 1, n do " +
+        "  redis.call('decrby', KEYS[i + 2], ARGV[i + 2]) " +
+        "  redis.call('hset', KEYS[1], ARGV[i + 2 + n], ARGV[i + 2]) " +
+        "end " +
+        "redis.call('zadd', KEYS[2], ARGV[1], ARGV[2]) " +
+        "return 1",
+        Long.class
+    );
+
+    // KEYS = [예약 해시, 예약 ZSET, 확정 해시, 확정 마커], ARGV = [예약 ID, 마커 TTL(ms)]
+    // 1 = 확정, 0 = 만료/해제됨 (호출자가 DB에서 차감), 2 = 이미 확정 시도됨 - 첫 시도만 마커를 남긴다
+    private static final RedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('exists', KEYS[4]) == 1 then return 2 end " +
+        "redis.call('set', KEYS[4], '1', 'PX', ARGV[2]) " +
+        "if redis.call('zrem', KEYS[2], ARGV[1]) == 0 then return 0 end " +
+        "local lines = redis.call('hgetall', KEYS[1]) " +
+        "for i = 1, #lines, 2 do redis.call('hincrby', KEYS[3], lines[i], lines[i + 1]) end " +
+        "redis.call('del', KEYS[1]) " +
+        "return 1",
+        Long.class
+    );
+
+    // KEYS = [예약 해시, 예약 ZSET, 미러...], ARGV = [예약 ID, 상품코드...]
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('zrem', KEYS[2], ARGV[1]) == 0 then return 0 end " +
+        "for i = 3, #KEYS do " +
+        "  local quantity = redis.call('hget', KEYS[1], ARGV[i - 1]) " +
+        "  if quantity then redis.call('incrby', KEYS[i], quantity) end " +
+        "end " +
+        "redis.call('del', KEYS[1]) " +
+        "return 1",
+        Long.class
+    );
+
+    // 이전 flush가 남긴 flushing 키가 있으면 그대로, 없으면 confirmed를 flushing으로 옮긴 뒤 꺼낸다
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('exists', KEYS[2]) == 0 then " +
+        "  if redis.call('exists', KEYS[1]) == 0 then return {} end " +
+        "  redis.call('rename', KEYS[1], KEYS[2]) " +
+        "end " +
+        "return redis.call('hgetall', KEYS[2])",
+        List.class
+    );
+
+    // KEYS = [미러...], ARGV = [증감량...] - 미러가 없는 상품은 다음 예약 때 DB에서 적재되므로 건너뛴다
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+        "for i = 1, #KEYS do " +
+        "  if redis.call('exists', KEYS[i]) == 1 then redis.call('incrby', KEYS[i], ARGV[i]) end " +
+        "end " +
+        "return 1",
+        Long.class
+    );
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+
+    public StockReservationRepositoryImpl(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        @Value("${stock.reservation.enabled:false}") boolean enabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public ReserveResult reserve(String reservationId, Map<String, Long> lines, Duration ttl) {
+        List<String> keys = new ArrayList<>();
+        keys.add(reservationKey(reservationId));
+        keys.add(RESERVATIONS_KEY);
+        List<String> quantities = new ArrayList<>();
+        List<String> productIds = new ArrayList<>();
+        lines.forEach((productId, quantity) -> {
+            keys.add(availableKey(productId));
+            quantities.add(String.valueOf(quantity));
+            productIds.add(productId);
+        });
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(Instant.now().plus(ttl).toEpochMilli()));
+        args.add(reservationId);
+        args.addAll(quantities);
+        args.addAll(productIds);
+
+        Long result = redisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        if (result == null || result == 0) {
+            return ReserveResult.INSUFFICIENT;
+        }
+        return result < 0 ? ReserveResult.NOT_LOADED : ReserveResult.RESERVED;
+    }
+
+    @Override
+    public void loadIfAbsent(Map<String, Long> quantities) {
+        quantities.forEach((productId, quantity) ->
+            redisTemplate.opsForValue().setIfAbsent(availableKey(productId), String.valueOf(quantity)));
+    }
+
+    @Override
+    public void adjustAvailable(Map<String, Long> deltas) {
+        if (!enabled || deltas.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(deltas.size());
+        List<String> args = new ArrayList<>(deltas.size());
+        deltas.forEach((productId, delta) -> {
+            keys.add(availableKey(productId));
+            args.add(String.valueOf(delta));
+        });
+        redisTemplate.execute(ADJUST_SCRIPT, keys, args.toArray());
+    }
+
+    @Override
+    public ConfirmResult confirm(String reservationId) {
+        Long result = redisTemplate.execute(CONFIRM_SCRIPT,
+            List.of(reservationKey(reservationId), RESERVATIONS_KEY, CONFIRMED_KEY, confirmedMarkerKey(reservationId)),
+            reservationId, String.valueOf(CONFIRMED_MARKER_TTL.toMillis()));
+        if (result != null && result == 1) {
+            return ConfirmResult.CONFIRMED;
+        }
+        return result != null && result == 2 ? ConfirmResult.ALREADY_CONFIRMED : ConfirmResult.EXPIRED;
+    }
+
+    /**
+     * 예약 상품 목록을 먼저 읽어 미러 키를 KEYS로 넘긴다 (예약 해시는 예약 후 바뀌지 않으므로 확정/해제 전까지 그대로)
+     */
+    @Override
+    public boolean release(String reservationId) {
+        String reservationKey = reservationKey(reservationId);
+        List<String> productIds = new ArrayList<>(redisTemplate.<String, String>opsForHash().keys(reservationKey));
+        List<String> keys = new ArrayList<>();
+        keys.add(reservationKey);
+        keys.add(RESERVATIONS_KEY);
+        productIds.forEach(productId -> keys.add(availableKey(productId)));
+        List<String> args = new ArrayList<>();
+        args.add(reservationId);
+        args.addAll(productIds);
+
+        Long result = redisTemplate.execute(RELEASE_SCRIPT, keys, args.toArray());
+        return result != null && result == 1;
+    }
+
+    @Override
+    public List<String> findExpired(Instant now, int limit) {
+        Set<String> expired = redisTemplate.opsForZSet().rangeByScore(RESERVATIONS_KEY, 0, now.toEpochMilli(), 0, limit);
+        return expired != null ? new ArrayList<>(expired) : List.of();
+    }
+
+    @Override
+    public Map<String, Long> flushConfirmed(Consumer<Map<String, Long>> applier) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, FLUSH_LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("stock confirmed flush skipped - 다른 flush 진행 중");
+            return Map.of();
+        }
+        try {
+            Map<String, Long> confirmed = drain();
+            if (confirmed.isEmpty()) {
+                return Map.of();
+            }
+            applier.accept(confirmed);
+            redisTemplate.delete(FLUSHING_KEY);
+            return confirmed;
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+        }
+    }
+
+    @Override
+    public Map<String, Long> findAvailable(Collection<String> productIds) {
+        List<String> ids = new ArrayList<>(productIds);
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(this::availableKey).toList());
+        Map<String, Long> available = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            if (value != null) {
+                available.put(ids.get(i), Long.parseLong(value));
+            }
+        }
+        return available;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> drain() {
+        List<Object> entries = redisTemplate.execute(DRAIN_SCRIPT, List.of(CONFIRMED_KEY, FLUSHING_KEY));
+        Map<String, Long> confirmed = new LinkedHashMap<>();
+        if (entries == null) {
+            return confirmed;
+        }
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            confirmed.put((String) entries.get(i), Long.parseLong(entries.get(i + 1).toString()));
+        }
+        return confirmed;
+    }
+
+    private String availableKey(String productId) {
+        return RedisCacheTemplate.generateKey("stock", productId);
+    }
+
+    private String reservationKey(String reservationId) {
+        return RedisCacheTemplate.generateKey("stock", "reservation", reservationId);
+    }
+
+    private String confirmedMarkerKey(String reservationId) {
+        return RedisCacheTemplate.generateKey("stock", "reservation", reservationId, "confirmed");
+    }
+}
@@ -0,0 +1,61 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisCacheTemplate;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.TrendingScoreRepository;
+import com.loopers.domain.product.TrendingWindow;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * 트렌딩 점수 Redis 해시 (trending:{window}:{epoch}, field = "brandCode|productId", value = 누적 점수)
+ * 직전 epoch까지만 조회하므로 epoch 길이의 2배가 지나면 만료된다.
+ */
+@Component
+public class TrendingScoreRepositoryImpl implements TrendingScoreRepository {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    public TrendingScoreRepositoryImpl(
+        RedisTemplate<String, String> redisTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public void addScores(TrendingWindow window, long epoch, Map<String, Double> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        String key = scoreKey(window, epoch);
+        masterRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> pipeline = (RedisOperations<String, String>) operations;
+                increments.forEach((field, increment) -> pipeline.opsForHash().increment(key, field, increment));
+                pipeline.expire(key, window.epochLength().multipliedBy(2));
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Map<String, Double> findScores(TrendingWindow window, long epoch) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(scoreKey(window, epoch));
+        Map<String, Double> scores = new LinkedHashMap<>();
+        entries.forEach((field, value) -> scores.put((String) field, Double.parseDouble((String) value)));
+        return scores;
+    }
+
+    private String scoreKey(TrendingWindow window, long epoch) {
+        return RedisCacheTemplate.generateKey("trending", window.code(), String.valueOf(epoch));
+    }
+}
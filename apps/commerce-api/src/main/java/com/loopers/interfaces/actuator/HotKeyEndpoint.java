@@ -0,0 +1,39 @@
+package com.loopers.interfaces.actuator;
+
+import com.loopers.config.redis.HotKey;
+import com.loopers.config.redis.HotKeyDetector;
+import com.loopers.config.redis.RedisNearCache;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 노드의 핫 키 조회 (GET /actuator/hotkeys)
+ * namespace - cache: Redis 캐시 키, like: 좋아요 상품코드, stock: 재고 차감 상품코드
+ */
+@Component
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeyEndpoint {
+    private final HotKeyDetector hotKeyDetector;
+    private final RedisNearCache redisNearCache;
+
+    @ReadOperation
+    public HotKeysResponse hotKeys() {
+        List<HotKeyResponse> keys = hotKeyDetector.topKeys().stream()
+            .map(hotKey -> new HotKeyResponse(hotKey, hotKeyDetector.isHot(hotKey.namespace(), hotKey.key())))
+            .toList();
+        return new HotKeysResponse(keys, redisNearCache.pinnedSize());
+    }
+
+    public record HotKeysResponse(List<HotKeyResponse> keys, long pinnedNearCacheSize) {
+    }
+
+    public record HotKeyResponse(String namespace, String key, long estimate, boolean hot) {
+        HotKeyResponse(HotKey hotKey, boolean hot) {
+            this(hotKey.namespace(), hotKey.key(), hotKey.estimate(), hot);
+        }
+    }
+}
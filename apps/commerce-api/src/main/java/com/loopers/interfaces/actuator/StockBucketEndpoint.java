@@ -0,0 +1,46 @@
+package com.loopers.interfaces.actuator;
+
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductStockBucketService;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 재고 bucket 전환 (운영 중 주문이 몰리는 상품만 opt-in)
+ * GET /actuator/stockbuckets - bucket으로 나뉜 상품별 bucket 수
+ * POST /actuator/stockbuckets/{productId} {"buckets": 8} - bucket으로 나눔 (buckets 생략 시 기본값)
+ * DELETE /actuator/stockbuckets/{productId} - products.quantity로 되돌림
+ */
+@Component
+@Endpoint(id = "stockbuckets")
+@RequiredArgsConstructor
+public class StockBucketEndpoint {
+    private final ProductService productService;
+    private final ProductStockBucketService productStockBucketService;
+
+    @ReadOperation
+    public Map<String, Integer> bucketCounts() {
+        return productStockBucketService.bucketCounts();
+    }
+
+    @WriteOperation
+    public StockBucketResponse enable(@Selector String productId, @Nullable Integer buckets) {
+        return new StockBucketResponse(productId, productService.enableStockBuckets(productId, buckets), productService.findProduct(productId).getQuantity());
+    }
+
+    @DeleteOperation
+    public StockBucketResponse disable(@Selector String productId) {
+        productService.disableStockBuckets(productId);
+        return new StockBucketResponse(productId, 0, productService.findProduct(productId).getQuantity());
+    }
+
+    public record StockBucketResponse(String productId, int buckets, long quantity) {
+    }
+}
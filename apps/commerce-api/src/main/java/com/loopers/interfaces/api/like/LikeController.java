@@ -2,12 +2,16 @@ package com.loopers.interfaces.api.like;
 
 import com.loopers.application.like.LikeCriteria;
 import com.loopers.application.like.LikeFacade;
+import com.loopers.application.like.LikeStatusResult;
+import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.support.header.CustomHeader;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -34,4 +38,16 @@ public class LikeController {
         LikeCriteria criteria = new LikeCriteria(userId, productId);
         likeFacade.likeCancel(criteria);
     }
+
+    /**
+     * 상품 그리드용 좋아요 수/좋아요 여부 일괄 조회
+     */
+    @PostMapping(value = "/likes/batch-status")
+    public ApiResponse<LikeDto.BatchStatusResponse> batchStatus(
+        @RequestHeader(value = CustomHeader.USER_ID, required = true) String userId,
+        @RequestBody LikeDto.BatchStatusRequest request
+    ){
+        List<LikeStatusResult> results = likeFacade.batchStatus(userId, request.productIds());
+        return ApiResponse.success(LikeDto.BatchStatusResponse.from(results));
+    }
 }
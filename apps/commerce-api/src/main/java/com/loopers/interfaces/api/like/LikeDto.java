@@ -1,7 +1,9 @@
 package com.loopers.interfaces.api.like;
 
 import com.loopers.application.like.LikeCriteria;
+import com.loopers.application.like.LikeStatusResult;
 import com.loopers.interfaces.api.product.ProductDto;
+import java.util.List;
 
 public record LikeDto(
     String productId,
@@ -13,4 +15,32 @@ public record LikeDto(
             likeCriteria.productId()
         );
     }
+
+    /**
+     * 좋아요 수/여부 일괄 조회 요청
+     */
+    public record BatchStatusRequest(
+        List<String> productIds
+    ) {}
+
+    /**
+     * 좋아요 수/여부 일괄 조회 응답
+     */
+    public record BatchStatusResponse(
+        List<Status> statuses
+    ) {
+        public static BatchStatusResponse from(List<LikeStatusResult> results) {
+            return new BatchStatusResponse(results.stream().map(Status::from).toList());
+        }
+    }
+
+    public record Status(
+        String productId,
+        Long likesCount,
+        Boolean liked
+    ) {
+        public static Status from(LikeStatusResult result) {
+            return new Status(result.productId(), result.likesCount(), result.liked());
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.loopers.interfaces.api.order;
 
 import com.loopers.application.order.OrderCriteria;
 import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.OrderIntakePipeline;
 import com.loopers.application.order.OrderResult;
 import com.loopers.domain.order.OrderInfo;
 import com.loopers.interfaces.api.ApiResponse;
@@ -23,6 +24,7 @@ import java.util.List;
 public class OrderController {
     
     private final OrderFacade orderFacade;
+    private final OrderIntakePipeline orderIntakePipeline;
 
     /**
      * 주문 생성 (결제 없이)
@@ -58,7 +60,10 @@ public class OrderController {
             request.discountAmount()
         );
 
-        OrderInfo orderInfo = orderFacade.placeOrder(criteria);
+        // 주문 접수 파이프라인을 사용하면 묶음 단위로 저장 (큐가 가득 차면 429)
+        OrderInfo orderInfo = orderIntakePipeline.isEnabled()
+            ? orderIntakePipeline.place(criteria)
+            : orderFacade.placeOrder(criteria);
         return ApiResponse.success(OrderDto.Response.from(orderInfo));
     }
 
@@ -1,9 +1,11 @@
 package com.loopers.interfaces.api.product;
 
 import com.loopers.application.product.ProductCriteria;
+import com.loopers.application.product.ProductCursorResult;
 import com.loopers.application.product.ProductFacade;
 import com.loopers.application.product.ProductPageResult;
 import com.loopers.application.product.ProductResult;
+import com.loopers.application.product.TrendingProductResult;
 import com.loopers.domain.product.SortBy;
 import com.loopers.interfaces.api.like.LikeDto;
 import com.loopers.support.header.CustomHeader;
@@ -59,6 +61,21 @@ public class ProductController {
         return productFacade.getProduct(productId);
     }
 
+    /**
+     * 트렌딩 상품 조회 (brand가 없으면 전체, window: 1h / 1d / 7d)
+     */
+    @GetMapping("/products/trending")
+    public TrendingProductResult getTrendingProducts(
+        @RequestParam(required = false) String brand,
+        @RequestParam(required = false) String window,
+        @RequestParam(defaultValue = "10") int size) {
+
+        log.debug("::: inquiry trending brand ::: {}", brand);
+        log.debug("::: inquiry trending window ::: {}", window);
+
+        return productFacade.getTrendingProducts(brand, window, size);
+    }
+
     /**
      * 브랜드별 상품 목록 조회 (캐시 적용)
      */
@@ -83,4 +100,29 @@ public class ProductController {
 
         return productFacade.getProductList(criteria);
     }
+
+    /**
+     * 브랜드별 상품 목록 조회 (커서 기반, 첫 페이지는 cursor를 비워서 요청)
+     */
+    @GetMapping(value = "/products/brand/{brandCode}", params = "cursor")
+    public ProductCursorResult getProductListByBrandWithCursor(
+        @PathVariable String brandCode,
+        @RequestParam String cursor,
+        @RequestParam(defaultValue = "3") int size,
+        @RequestParam(required = false) SortBy sortBy) {
+
+        log.debug("::: inquiry brandCode ::: {}", brandCode);
+        log.debug("::: inquiry cursor ::: {}", cursor);
+        log.debug("::: inquiry size ::: {}", size);
+        log.debug("::: inquiry sortBy ::: {}", sortBy);
+
+        ProductCriteria criteria = ProductCriteria.builder()
+            .brandCode(brandCode)
+            .cursor(cursor)
+            .size(size)
+            .sortBy(sortBy)
+            .build();
+
+        return productFacade.getProductListByCursor(criteria);
+    }
 }
@@ -33,7 +33,8 @@ public record ProductDto(
             productDto.category3(),
             productDto.sortBy,
             productDto.page,
-            productDto.size
+            productDto.size,
+            null
         );
     }
 }
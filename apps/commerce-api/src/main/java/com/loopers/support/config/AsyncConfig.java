@@ -24,4 +24,18 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * like_summary 정합성 보정 전용 (chunk 사이 sleep으로 오래 걸리므로 스케줄러/공용 스레드를 점유하지 않도록 분리)
+     */
+    @Bean(name = "likeReconcileExecutor")
+    public Executor likeReconcileExecutor(){
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("likeReconcile-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,242 @@
+package com.loopers.application.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.domain.domainEnum.Gender;
+import com.loopers.domain.order.OrderInfo;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.infrastructure.order.OrderJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Slf4j
+@SpringBootTest(properties = {
+    "order.pipeline.enabled=true",
+    "order.pipeline.capacity=4096",
+    "order.pipeline.writers=2",
+    "order.pipeline.batch-size=64",
+    "spring.datasource.hikari.maximum-pool-size=20",
+    "spring.datasource.hikari.minimum-idle=10"
+})
+public class OrderIntakePipelineTest {
+    private static final String USER_ID = "utlee";
+    private static final int THREAD_COUNT = 16;
+    private static final int ORDERS_PER_THREAD = 25;
+
+    @Autowired
+    private OrderIntakePipeline orderIntakePipeline;
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+            .userId(USER_ID)
+            .email("utlee@naver.com")
+            .birthday("2000-01-01")
+            .gender(Gender.M)
+            .build());
+        saveProduct("A0001");
+        saveProduct("A0002");
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private void saveProduct(String code) {
+        productRepository.save(Product.create(
+            code, "테스트 물품", BigDecimal.valueOf(1000), 100_000L,
+            "image.jpg", "테스트 물품 설명", "ELECTRIC", "컴퓨터", "노트북"
+        ));
+    }
+
+    private OrderCriteria.CreateOrder criteria(String productId) {
+        return new OrderCriteria.CreateOrder(
+            USER_ID,
+            List.of(
+                new OrderCriteria.OrderDetailRequest(productId, 1L, BigDecimal.valueOf(1000)),
+                new OrderCriteria.OrderDetailRequest("A0002", 2L, BigDecimal.valueOf(1000))
+            ),
+            null,
+            BigDecimal.ZERO,
+            BigDecimal.ZERO
+        );
+    }
+
+    /**
+     * THREAD_COUNT개 스레드가 ORDERS_PER_THREAD번씩 주문
+     * @return 걸린 시간(ms)
+     */
+    private long runConcurrently(Consumer<OrderCriteria.CreateOrder> placeOrder, AtomicInteger successCount) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < ORDERS_PER_THREAD; j++) {
+                        placeOrder.accept(criteria("A0001"));
+                        successCount.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await(120, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executorService.shutdown();
+        return elapsedMs;
+    }
+
+    @DisplayName("주문 접수")
+    @Nested
+    class Place {
+
+        @DisplayName("접수한 주문은 주문상세와 함께 저장되고 주문 정보가 반환된다")
+        @Test
+        void places_order() {
+            OrderInfo orderInfo = orderIntakePipeline.place(criteria("A0001"));
+
+            OrderInfo saved = orderFacade.getOrderByOrderNo(
+                new OrderCriteria.GetOrderByOrderNo(USER_ID, orderInfo.getOrder().getOrderNo()));
+            assertThat(orderInfo.getOrder().getCreatedAt()).isNotNull();
+            assertThat(orderInfo.getOrder().getTotalAmount()).isEqualByComparingTo(BigDecimal.valueOf(3000));
+            assertThat(saved.getOrder().getOrderDetailList()).hasSize(2);
+        }
+
+        @DisplayName("같은 묶음에서 검증에 실패한 주문만 실패하고 나머지는 저장된다")
+        @Test
+        void isolates_invalid_orders() {
+            CompletableFuture<OrderInfo> first = orderIntakePipeline.submit(criteria("A0001"));
+            CompletableFuture<OrderInfo> invalid = orderIntakePipeline.submit(criteria("A9999"));
+            CompletableFuture<OrderInfo> last = orderIntakePipeline.submit(criteria("A0001"));
+
+            assertThat(first.join().getOrder().getOrderNo()).isNotBlank();
+            assertThat(last.join().getOrder().getOrderNo()).isNotBlank();
+            CompletionException exception = assertThrows(CompletionException.class, invalid::join);
+            assertThat(((CoreException) exception.getCause()).getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+            assertThat(orderJpaRepository.count()).isEqualTo(2);
+        }
+
+        @DisplayName("큐가 가득 차면 TOO_MANY_REQUESTS로 거절한다")
+        @Test
+        void rejects_when_full() throws InterruptedException {
+            // writer 없이 크기 1인 큐
+            OrderIntakePipeline pipeline = new OrderIntakePipeline(orderFacade, new SimpleMeterRegistry(), true, 1, 0, 64, Duration.ofSeconds(5));
+            pipeline.start();
+
+            pipeline.submit(criteria("A0001"));
+            CoreException exception = assertThrows(CoreException.class, () -> pipeline.submit(criteria("A0001")));
+
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.TOO_MANY_REQUESTS);
+            pipeline.stop();
+        }
+
+        @DisplayName("대기 시간 안에 처리되지 않은 주문은 저장하지 않고 TOO_MANY_REQUESTS로 실패한다")
+        @Test
+        void fails_on_timeout() throws InterruptedException {
+            // writer 없이 대기 시간 100ms
+            OrderIntakePipeline pipeline = new OrderIntakePipeline(orderFacade, new SimpleMeterRegistry(), true, 1, 0, 64, Duration.ofMillis(100));
+            pipeline.start();
+
+            CoreException exception = assertThrows(CoreException.class, () -> pipeline.place(criteria("A0001")));
+
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.TOO_MANY_REQUESTS);
+            pipeline.stop();
+            assertThat(orderJpaRepository.count()).isZero();
+        }
+
+        @DisplayName("종료 시 큐에 남은 주문은 TOO_MANY_REQUESTS로 실패한다")
+        @Test
+        void fails_queued_on_stop() throws InterruptedException {
+            OrderIntakePipeline pipeline = new OrderIntakePipeline(orderFacade, new SimpleMeterRegistry(), true, 1, 0, 64, Duration.ofSeconds(5));
+            pipeline.start();
+            CompletableFuture<OrderInfo> queued = pipeline.submit(criteria("A0001"));
+
+            pipeline.stop();
+
+            CompletionException exception = assertThrows(CompletionException.class, queued::join);
+            assertThat(((CoreException) exception.getCause()).getErrorType()).isEqualTo(ErrorType.TOO_MANY_REQUESTS);
+        }
+    }
+
+    @DisplayName("요청별 트랜잭션 경로와 파이프라인(group commit)의 처리량을 비교한다")
+    @Test
+    void compare_throughput_with_per_request() throws InterruptedException {
+        long orders = (long) THREAD_COUNT * ORDERS_PER_THREAD;
+
+        AtomicInteger perRequestSuccess = new AtomicInteger();
+        long perRequestMs = runConcurrently(orderFacade::placeOrder, perRequestSuccess);
+        long perRequestCount = orderJpaRepository.count();
+        databaseCleanUp.truncateAllTables();
+        setUp();
+
+        AtomicInteger pipelineSuccess = new AtomicInteger();
+        long pipelineMs = runConcurrently(orderIntakePipeline::place, pipelineSuccess);
+        long pipelineCount = orderJpaRepository.count();
+
+        log.info("주문 생성 {}건 - per-request: {}ms ({} ops/s), pipeline: {}ms ({} ops/s), speedup: {}x",
+            orders,
+            perRequestMs, orders * 1000 / Math.max(perRequestMs, 1),
+            pipelineMs, orders * 1000 / Math.max(pipelineMs, 1),
+            String.format("%.2f", (double) perRequestMs / Math.max(pipelineMs, 1)));
+
+        assertThat(perRequestSuccess.get()).isEqualTo(orders);
+        assertThat(pipelineSuccess.get()).isEqualTo(orders);
+        assertThat(perRequestCount).isEqualTo(orders);
+        assertThat(pipelineCount).isEqualTo(orders);
+    }
+}
@@ -256,6 +256,93 @@ public class ProductFacadeTest {
         }
     }
 
+    @Nested
+    @DisplayName("물품 리스트 조회 (커서)")
+    class GetProductListByCursor {
+
+        @DisplayName("성공 - 다음 커서로 중복/누락 없이 이어서 조회")
+        @Test
+        void getProductListByCursor() {
+            // given - 같은 가격 상품을 포함해 3건
+            productJpaRepository.save(Product.builder()
+                .code("A0002").brand("B0001").name("테스트 상품2")
+                .price(BigDecimal.valueOf(5000)).useYn(true).quantity(5L)
+                .build());
+            productJpaRepository.save(Product.builder()
+                .code("A0003").brand("B0001").name("테스트 상품3")
+                .price(BigDecimal.valueOf(5000)).useYn(true).quantity(5L)
+                .build());
+
+            ProductCriteria firstCriteria = ProductCriteria.builder()
+                .brandCode("B0001")
+                .cursor("")
+                .size(2)
+                .sortBy(SortBy.PRICE_ASC)
+                .build();
+
+            // when
+            ProductCursorResult first = productFacade.getProductListByCursor(firstCriteria);
+            ProductCursorResult second = productFacade.getProductListByCursor(ProductCriteria.builder()
+                .brandCode("B0001")
+                .cursor(first.getNextCursor())
+                .size(2)
+                .sortBy(SortBy.PRICE_ASC)
+                .build());
+
+            // then
+            assertAll(
+                () -> assertThat(first.getProducts()).extracting("code").containsExactly("A0002", "A0003"),
+                () -> assertTrue(first.isHasNext()),
+                () -> assertThat(second.getProducts()).extracting("code").containsExactly("A0001"),
+                () -> assertThat(second.isHasNext()).isFalse(),
+                () -> assertThat(second.getNextCursor()).isNull()
+            );
+        }
+
+        @DisplayName("실패 - 정렬 조건이 다른 커서")
+        @Test
+        void getProductListByCursorWithMismatchedSort() {
+            // given
+            productJpaRepository.save(Product.builder()
+                .code("A0002").brand("B0001").name("테스트 상품2")
+                .price(BigDecimal.valueOf(5000)).useYn(true).quantity(5L)
+                .build());
+            ProductCursorResult first = productFacade.getProductListByCursor(ProductCriteria.builder()
+                .brandCode("B0001").cursor("").size(1).sortBy(SortBy.PRICE_ASC)
+                .build());
+
+            // when & then
+            CoreException exception = Assert.assertThrows(CoreException.class, () ->
+                productFacade.getProductListByCursor(ProductCriteria.builder()
+                    .brandCode("B0001").cursor(first.getNextCursor()).size(1).sortBy(SortBy.LATEST)
+                    .build())
+            );
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+
+        @DisplayName("실패 - 조회 건수가 0 이하")
+        @Test
+        void getProductListByCursorWithNonPositiveSize() {
+            CoreException exception = Assert.assertThrows(CoreException.class, () ->
+                productFacade.getProductListByCursor(ProductCriteria.builder()
+                    .brandCode("B0001").cursor("").size(0).sortBy(SortBy.PRICE_ASC)
+                    .build())
+            );
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+
+        @DisplayName("성공 - 조회 건수가 너무 크면 최대 건수로 제한해 조회")
+        @Test
+        void getProductListByCursorWithLargeSize() {
+            ProductCursorResult result = productFacade.getProductListByCursor(ProductCriteria.builder()
+                .brandCode("B0001").cursor("").size(Integer.MAX_VALUE).sortBy(SortBy.PRICE_ASC)
+                .build());
+
+            assertThat(result.getProducts()).extracting("code").containsExactly("A0001");
+            assertThat(result.isHasNext()).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("물품 생성")
     class CreateProduct {
@@ -0,0 +1,92 @@
+package com.loopers.domain.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LikeCounterBufferTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LikeCounterBuffer likeCounterBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        likeCounterBuffer = new LikeCounterBuffer(meterRegistry);
+    }
+
+    @DisplayName("동시에 누적한 증감분이 flush 중에도 유실되지 않는다")
+    @Test
+    void concurrent_increments_are_not_lost() throws InterruptedException {
+        int threads = 8;
+        int perThread = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch latch = new CountDownLatch(threads);
+        Map<String, Long> applied = new HashMap<>();
+
+        for (int i = 0; i < threads; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    likeCounterBuffer.increment("P1", 1);
+                }
+                latch.countDown();
+            });
+        }
+        // 누적 중에도 반복 flush
+        executorService.submit(() -> {
+            while (latch.getCount() > 0) {
+                likeCounterBuffer.flush(deltas -> deltas.forEach((id, delta) -> applied.merge(id, delta, Long::sum)), Duration.ZERO);
+            }
+        });
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        likeCounterBuffer.flush(deltas -> deltas.forEach((id, delta) -> applied.merge(id, delta, Long::sum)), Duration.ZERO);
+
+        assertThat(applied).containsEntry("P1", (long) threads * perThread);
+        assertThat(likeCounterBuffer.pendingDeltas(List.of("P1"))).isEmpty();
+    }
+
+    @DisplayName("flush 후 증감분이 0이 된 상품은 버퍼에서 제거된다")
+    @Test
+    void flushed_products_are_removed() {
+        likeCounterBuffer.increment("P1", 2);
+        likeCounterBuffer.increment("P2", 1);
+        likeCounterBuffer.increment("P2", -1);
+
+        Map<String, Long> flushed = likeCounterBuffer.flush(deltas -> {}, Duration.ZERO);
+
+        assertThat(flushed).containsOnly(Map.entry("P1", 2L));
+        assertThat(meterRegistry.get("like.counter.pending.products").gauge().value()).isZero();
+    }
+
+    @DisplayName("반영에 실패하면 증감분이 버퍼에 남는다")
+    @Test
+    void failed_flush_keeps_deltas() {
+        likeCounterBuffer.increment("P1", 3);
+        likeCounterBuffer.increment("P2", -1);
+
+        assertThatThrownBy(() -> likeCounterBuffer.flush(deltas -> {
+            throw new IllegalStateException("DB 장애");
+        }, Duration.ZERO)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(likeCounterBuffer.pendingDeltas(List.of("P1", "P2")))
+            .containsEntry("P1", 3L)
+            .containsEntry("P2", -1L);
+        assertThat(meterRegistry.get("like.counter.pending.delta").gauge().value()).isEqualTo(4.0);
+        assertThat(meterRegistry.get("like.counter.pending.products").gauge().value()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,79 @@
+package com.loopers.domain.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.infrastructure.like.LikeJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "like.membership.cache-enabled=true")
+class LikeMembershipTest {
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeJpaRepository likeJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private static final String USER_ID = "test-user";
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("적재된 좋아요 여부는 DB를 조회하지 않고 Redis Set에서 반환한다")
+    @Test
+    void likedBy_is_served_from_membership_set() {
+        likeService.like(USER_ID, "P1");
+        likeService.like(USER_ID, "P3");
+
+        // DB에서 지워도 Set 기준으로 응답
+        likeJpaRepository.deleteAll();
+        Map<String, Boolean> liked = likeService.likedBy(USER_ID, List.of("P1", "P2", "P3"));
+
+        assertThat(liked).containsExactly(
+            Map.entry("P1", true),
+            Map.entry("P2", false),
+            Map.entry("P3", true)
+        );
+    }
+
+    @DisplayName("좋아요 취소는 Set에 반영되어 다시 좋아요할 수 있다")
+    @Test
+    void likeCancel_is_reflected() {
+        likeService.like(USER_ID, "P1");
+        likeService.likeCancel(USER_ID, "P1");
+
+        assertThat(likeService.likeExist(USER_ID, "P1")).isFalse();
+
+        likeService.like(USER_ID, "P1");
+
+        assertThat(likeService.likeExist(USER_ID, "P1")).isTrue();
+        assertThat(likeJpaRepository.count()).isEqualTo(1);
+    }
+
+    @DisplayName("Set이 없는 사용자는 처음 조회할 때 DB에서 적재한다")
+    @Test
+    void membership_is_warmed_lazily() {
+        likeJpaRepository.save(new Like("P1", USER_ID));
+
+        assertThat(likeService.likedBy(USER_ID, List.of("P1", "P2")))
+            .containsEntry("P1", true)
+            .containsEntry("P2", false);
+    }
+}
@@ -0,0 +1,68 @@
+package com.loopers.domain.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.event.ProductLikeCountSynchronizer;
+import com.loopers.infrastructure.like.LikeSummaryJpaRepository;
+import com.loopers.infrastructure.product.ProductJPARepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class LikeSummaryBackfillTest {
+
+    @Autowired
+    private LikeSummaryJpaRepository likeSummaryJpaRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductJPARepository productJPARepository;
+
+    @Autowired
+    private ProductLikeCountSynchronizer productLikeCountSynchronizer;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private static final String LIKED_PRODUCT_ID = "liked-product";
+    private static final String UNLIKED_PRODUCT_ID = "unliked-product";
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("backfill하면 like_summary 기준으로 전체 상품의 like_count를 다시 계산한다")
+    @Test
+    void backfill_uses_like_summary() {
+        productRepository.save(Product.create(
+            LIKED_PRODUCT_ID, "테스트 물품", BigDecimal.valueOf(1000), 10L,
+            "image.jpg", "테스트 물품 설명", "ELECTRIC", "컴퓨터", "노트북"
+        ));
+        productRepository.save(Product.create(
+            UNLIKED_PRODUCT_ID, "테스트 물품", BigDecimal.valueOf(1000), 10L,
+            "image.jpg", "테스트 물품 설명", "ELECTRIC", "컴퓨터", "노트북"
+        ));
+        likeSummaryJpaRepository.save(new LikeSummary(LIKED_PRODUCT_ID, 7L));
+
+        productLikeCountSynchronizer.backfill();
+
+        assertThat(productJPARepository.findByCode(LIKED_PRODUCT_ID).getLikeCount()).isEqualTo(7L);
+        // like_summary 행이 없는 상품은 0
+        assertThat(productJPARepository.findByCode(UNLIKED_PRODUCT_ID).getLikeCount()).isEqualTo(0L);
+    }
+}
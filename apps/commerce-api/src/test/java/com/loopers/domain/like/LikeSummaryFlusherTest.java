@@ -0,0 +1,107 @@
+package com.loopers.domain.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.loopers.domain.like.event.LikeSummaryFlusher;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "like.summary.flush-immediately=false")
+class LikeSummaryFlusherTest {
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeSummaryFlusher likeSummaryFlusher;
+
+    @Autowired
+    private LikeDeltaRepository likeDeltaRepository;
+
+    @Autowired
+    private LikeSummaryRepository likeSummaryRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private static final String PRODUCT_ID = "test-product";
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("좋아요 증감분 반영")
+    @Nested
+    class Flush {
+
+        @DisplayName("반영 전에도 조회 시 아직 반영되지 않은 증감분이 더해진다")
+        @Test
+        void pending_delta_is_visible_before_flush() {
+            likeService.like("user1", PRODUCT_ID);
+            likeService.like("user2", PRODUCT_ID);
+            likeService.like("user3", PRODUCT_ID);
+            likeService.likeCancel("user3", PRODUCT_ID);
+
+            assertThat(likeSummaryRepository.LikeSummaryCountByProductId(PRODUCT_ID)).isEqualTo(0L);
+            assertThat(likeService.LikeSummaryCountByProductId(PRODUCT_ID)).isEqualTo(2L);
+            assertThat(likeService.findLikeSummaryByProductCodes(List.of(PRODUCT_ID))).containsEntry(PRODUCT_ID, 2L);
+        }
+
+        @DisplayName("flush하면 증감분이 like_summary에 반영되고 대기 중인 증감분은 비워진다")
+        @Test
+        void flush_applies_deltas() {
+            likeService.like("user1", PRODUCT_ID);
+            likeService.like("user2", PRODUCT_ID);
+
+            likeSummaryFlusher.flush();
+
+            assertThat(likeSummaryRepository.LikeSummaryCountByProductId(PRODUCT_ID)).isEqualTo(2L);
+            assertThat(likeDeltaRepository.pendingDeltas(List.of(PRODUCT_ID))).isEmpty();
+            assertThat(likeService.LikeSummaryCountByProductId(PRODUCT_ID)).isEqualTo(2L);
+        }
+
+        @DisplayName("반영에 실패한 증감분은 남아 있다가 다음 flush에서 반영된다")
+        @Test
+        void failed_flush_is_retried() {
+            likeService.like("user1", PRODUCT_ID);
+
+            assertThatThrownBy(() -> likeDeltaRepository.flush(deltas -> {
+                throw new IllegalStateException("DB 장애");
+            }, Duration.ZERO)).isInstanceOf(IllegalStateException.class);
+
+            // 실패한 flush 이후 들어온 증감분은 다음 flush에서 반영
+            likeService.like("user2", PRODUCT_ID);
+            assertThat(likeService.LikeSummaryCountByProductId(PRODUCT_ID)).isEqualTo(2L);
+
+            likeSummaryFlusher.flush();
+            likeSummaryFlusher.flush();
+
+            assertThat(likeSummaryRepository.LikeSummaryCountByProductId(PRODUCT_ID)).isEqualTo(2L);
+            assertThat(likeDeltaRepository.pendingDeltas(List.of(PRODUCT_ID))).isEmpty();
+        }
+
+        @DisplayName("좋아요 수는 0 미만으로 내려가지 않는다")
+        @Test
+        void count_does_not_go_negative() {
+            likeDeltaRepository.increment(PRODUCT_ID, -3);
+
+            likeSummaryFlusher.flush();
+
+            assertThat(likeSummaryRepository.LikeSummaryCountByProductId(PRODUCT_ID)).isEqualTo(0L);
+        }
+    }
+}
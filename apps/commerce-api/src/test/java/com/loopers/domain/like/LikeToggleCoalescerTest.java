@@ -0,0 +1,94 @@
+package com.loopers.domain.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.domain.like.event.LikeToggleFlusher;
+import com.loopers.infrastructure.like.LikeJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+    "like.coalescing.enabled=true",
+    "like.coalescing.window=1h"
+})
+class LikeToggleCoalescerTest {
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeToggleFlusher likeToggleFlusher;
+
+    @Autowired
+    private LikeJpaRepository likeJpaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private static final String USER_ID = "test-user";
+
+    @AfterEach
+    void tearDown() {
+        likeToggleFlusher.flush();
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("구간 안에서 서로 상쇄되는 좋아요/취소는 최종 상태 하나로 합쳐져 DB에 남지 않는다")
+    @Test
+    void cancelling_pairs_are_merged() {
+        double merged = meterRegistry.counter("like.coalescer.merged").count();
+
+        likeService.like(USER_ID, "P1");
+        likeService.likeCancel(USER_ID, "P1");
+        likeService.like(USER_ID, "P1");
+        likeService.likeCancel(USER_ID, "P1");
+        likeToggleFlusher.flush();
+
+        assertThat(likeJpaRepository.count()).isZero();
+        assertThat(meterRegistry.counter("like.coalescer.merged").count()).isEqualTo(merged + 3);
+    }
+
+    @DisplayName("여러 번 토글해도 최종 상태 한 번만 반영되고, 반영 전에도 최종 상태로 조회된다")
+    @Test
+    void only_net_state_is_applied() {
+        double applied = meterRegistry.counter("like.coalescer.applied").count();
+
+        likeService.like(USER_ID, "P1");
+        likeService.likeCancel(USER_ID, "P1");
+        likeService.like(USER_ID, "P1");
+
+        assertThat(likeService.likeExist(USER_ID, "P1")).isTrue();
+        assertThat(likeJpaRepository.count()).isZero();
+
+        likeToggleFlusher.flush();
+
+        assertThat(likeJpaRepository.count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("like.coalescer.applied").count()).isEqualTo(applied + 1);
+    }
+
+    @DisplayName("이미 좋아요한 상품을 취소하면 최종 상태로 삭제된다")
+    @Test
+    void unlike_of_existing_like_is_applied() {
+        likeService.applyLikeState(USER_ID, "P1", true);
+
+        likeService.likeCancel(USER_ID, "P1");
+        likeService.like(USER_ID, "P1");
+        likeService.likeCancel(USER_ID, "P1");
+        likeToggleFlusher.flush();
+
+        assertThat(likeJpaRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,239 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.domain.domainEnum.OrderStatus;
+import com.loopers.infrastructure.product.ProductJPARepository;
+import com.loopers.infrastructure.product.ProductStockBucketJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+@Slf4j
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.hikari.maximum-pool-size=20",
+    "spring.datasource.hikari.minimum-idle=10",
+    "product.stock-bucket.rebalance-interval=1h"
+})
+public class ProductStockBucketServiceTest {
+    private static final String PRODUCT_ID = "A0001";
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductStockBucketService productStockBucketService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductJPARepository productJPARepository;
+
+    @Autowired
+    private ProductStockBucketJpaRepository productStockBucketJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+        productStockBucketService.refresh();
+    }
+
+    private void saveProduct(long quantity) {
+        productRepository.save(Product.create(
+            PRODUCT_ID, "테스트 물품", BigDecimal.valueOf(1000), quantity,
+            "image.jpg", "테스트 물품 설명", "ELECTRIC", "컴퓨터", "노트북"
+        ));
+    }
+
+    private long productQuantity() {
+        return productJPARepository.findByCode(PRODUCT_ID).getQuantity();
+    }
+
+    private long bucketQuantity() {
+        return productStockBucketJpaRepository.findAll().stream().mapToLong(ProductStockBucket::getQuantity).sum();
+    }
+
+    @DisplayName("bucket 전환")
+    @Nested
+    class Enable {
+
+        @DisplayName("products 재고를 bucket에 고르게 옮기고, 상품 조회는 전체 재고를 반환한다")
+        @Test
+        void splits_stock() {
+            saveProduct(10L);
+
+            int buckets = productService.enableStockBuckets(PRODUCT_ID, 4);
+
+            assertThat(buckets).isEqualTo(4);
+            assertThat(productQuantity()).isZero();
+            assertThat(productStockBucketJpaRepository.findAll())
+                .extracting(ProductStockBucket::getQuantity)
+                .containsExactlyInAnyOrder(3L, 3L, 2L, 2L);
+            assertThat(productService.findProduct(PRODUCT_ID).getQuantity()).isEqualTo(10L);
+            assertThat(productService.findProducts(List.of(PRODUCT_ID)).get(PRODUCT_ID).getQuantity()).isEqualTo(10L);
+        }
+
+        @DisplayName("이미 나뉜 상품은 다시 나눌 수 없다")
+        @Test
+        void rejects_twice() {
+            saveProduct(10L);
+            productService.enableStockBuckets(PRODUCT_ID, 4);
+
+            CoreException exception = assertThrows(CoreException.class, () -> productService.enableStockBuckets(PRODUCT_ID, 4));
+
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+        }
+
+        @DisplayName("해제하면 bucket 재고가 products로 돌아간다")
+        @Test
+        void disable_merges_back() {
+            saveProduct(10L);
+            productService.enableStockBuckets(PRODUCT_ID, 4);
+            productService.updateStock(PRODUCT_ID, 3L, OrderStatus.ORDER_PLACED);
+
+            productService.disableStockBuckets(PRODUCT_ID);
+
+            assertThat(productQuantity()).isEqualTo(7L);
+            assertThat(productStockBucketJpaRepository.count()).isZero();
+            assertThat(productStockBucketService.isBucketed(PRODUCT_ID)).isFalse();
+        }
+    }
+
+    @DisplayName("bucket 재고 차감")
+    @Nested
+    class Decrease {
+
+        @DisplayName("bucket 하나로 부족한 수량은 여러 bucket에 나눠 차감한다")
+        @Test
+        void spans_buckets() {
+            saveProduct(8L);
+            productService.enableStockBuckets(PRODUCT_ID, 4);
+
+            productService.updateStock(PRODUCT_ID, 7L, OrderStatus.ORDER_PLACED);
+
+            assertThat(bucketQuantity()).isEqualTo(1L);
+            CoreException exception = assertThrows(CoreException.class,
+                () -> productService.updateStock(PRODUCT_ID, 2L, OrderStatus.ORDER_PLACED));
+            assertThat(exception.getMessage()).contains("재고가 부족합니다");
+        }
+
+        @DisplayName("batch 차감도 bucket으로 나뉜 상품은 bucket에서 차감한다")
+        @Test
+        void batch_uses_buckets() {
+            saveProduct(8L);
+            productService.enableStockBuckets(PRODUCT_ID, 4);
+
+            productService.decreaseStockBatch(Map.of(PRODUCT_ID, 5L));
+
+            assertThat(bucketQuantity()).isEqualTo(3L);
+            assertThat(productQuantity()).isZero();
+        }
+
+        @DisplayName("bucket 하나로 충분하면 그 bucket에서만 차감한다")
+        @Test
+        void single_bucket() {
+            saveProduct(8L);
+            productService.enableStockBuckets(PRODUCT_ID, 4);
+
+            productService.updateStock(PRODUCT_ID, 2L, OrderStatus.ORDER_PLACED);
+
+            assertThat(productStockBucketJpaRepository.findAll())
+                .extracting(ProductStockBucket::getQuantity)
+                .containsExactlyInAnyOrder(0L, 2L, 2L, 2L);
+        }
+
+        @DisplayName("bucket 합계로 부족하면 취소로 products에 쌓인 재고까지 함께 차감한다")
+        @Test
+        void uses_residual() {
+            saveProduct(8L);
+            productService.enableStockBuckets(PRODUCT_ID, 4);
+            productService.updateStock(PRODUCT_ID, 7L, OrderStatus.ORDER_PLACED);
+            productService.updateStock(PRODUCT_ID, 3L, OrderStatus.ORDER_CANCEL);
+
+            productService.updateStock(PRODUCT_ID, 4L, OrderStatus.ORDER_PLACED);
+
+            assertThat(productQuantity()).isZero();
+            assertThat(bucketQuantity()).isZero();
+        }
+
+        @DisplayName("동시에 주문해도 재고 합계가 보존되고 음수가 되지 않는다")
+        @Test
+        void never_oversells() throws InterruptedException {
+            saveProduct(100L);
+            productService.enableStockBuckets(PRODUCT_ID, 8);
+            int threadCount = 16;
+            int ordersPerThread = 25;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch done = new CountDownLatch(threadCount);
+            AtomicInteger successCount = new AtomicInteger();
+
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        for (int j = 0; j < ordersPerThread; j++) {
+                            try {
+                                productService.updateStock(PRODUCT_ID, 1L, OrderStatus.ORDER_PLACED);
+                                successCount.incrementAndGet();
+                            } catch (Exception e) {
+                                // 재고 부족
+                            }
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await(60, TimeUnit.SECONDS);
+            executorService.shutdown();
+            log.info("bucket 재고 차감 - sold: {}, {}ms", successCount.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+            assertThat(productStockBucketJpaRepository.findAll()).allMatch(bucket -> bucket.getQuantity() >= 0);
+            assertThat(successCount.get() + bucketQuantity() + productQuantity()).isEqualTo(100L);
+        }
+    }
+
+    @DisplayName("취소로 products에 쌓인 재고와 치우친 bucket을 재분배한다")
+    @Test
+    void rebalance() {
+        saveProduct(8L);
+        productService.enableStockBuckets(PRODUCT_ID, 4);
+        productService.updateStock(PRODUCT_ID, 7L, OrderStatus.ORDER_PLACED);
+        productService.updateStock(PRODUCT_ID, 3L, OrderStatus.ORDER_CANCEL);
+
+        productStockBucketService.rebalance();
+
+        assertThat(productQuantity()).isZero();
+        assertThat(productStockBucketJpaRepository.findAll())
+            .extracting(ProductStockBucket::getQuantity)
+            .containsExactlyInAnyOrder(1L, 1L, 1L, 1L);
+        assertThat(productService.findProduct(PRODUCT_ID).getQuantity()).isEqualTo(4L);
+    }
+}
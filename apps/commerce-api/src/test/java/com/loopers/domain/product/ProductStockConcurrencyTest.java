@@ -0,0 +1,240 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.domain.domainEnum.OrderStatus;
+import com.loopers.infrastructure.product.ProductJPARepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+@Slf4j
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.hikari.maximum-pool-size=20",
+    "spring.datasource.hikari.minimum-idle=10"
+})
+public class ProductStockConcurrencyTest {
+    private static final String PRODUCT_ID = "A0001";
+    private static final int THREAD_COUNT = 16;
+    private static final int ORDERS_PER_THREAD = 25;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductJPARepository productJPARepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private void saveProduct(long quantity) {
+        saveProduct(PRODUCT_ID, quantity);
+    }
+
+    private void saveProduct(String code, long quantity) {
+        productRepository.save(Product.create(
+            code, "테스트 물품", BigDecimal.valueOf(1000), quantity,
+            "image.jpg", "테스트 물품 설명", "ELECTRIC", "컴퓨터", "노트북"
+        ));
+    }
+
+    private long quantity() {
+        return quantity(PRODUCT_ID);
+    }
+
+    private long quantity(String code) {
+        return productJPARepository.findByCode(code).getQuantity();
+    }
+
+    /**
+     * THREAD_COUNT개 스레드가 ORDERS_PER_THREAD번씩 1개 주문
+     * @return 걸린 시간(ms)
+     */
+    private long runConcurrently(Consumer<String> order, AtomicInteger successCount) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < ORDERS_PER_THREAD; j++) {
+                        try {
+                            order.accept(PRODUCT_ID);
+                            successCount.incrementAndGet();
+                        } catch (CoreException e) {
+                            // 재고 부족
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executorService.shutdown();
+        return elapsedMs;
+    }
+
+    @DisplayName("조건부 UPDATE 재고 차감")
+    @Nested
+    class AtomicDecrement {
+
+        @DisplayName("동시에 주문해도 재고만큼만 성공하고 음수가 되지 않는다")
+        @Test
+        void never_oversells() throws InterruptedException {
+            saveProduct(100L);
+            AtomicInteger successCount = new AtomicInteger();
+
+            runConcurrently(productId -> productService.updateStock(productId, 1L, OrderStatus.ORDER_PLACED), successCount);
+
+            assertThat(successCount.get()).isEqualTo(100);
+            assertThat(quantity()).isZero();
+        }
+
+        @DisplayName("마지막 남은 재고까지 주문할 수 있고, 그 이상은 재고 부족으로 실패한다")
+        @Test
+        void sells_last_unit() {
+            saveProduct(2L);
+
+            productService.updateStock(PRODUCT_ID, 2L, OrderStatus.ORDER_PLACED);
+
+            assertThat(quantity()).isZero();
+            CoreException exception = assertThrows(CoreException.class,
+                () -> productService.updateStock(PRODUCT_ID, 1L, OrderStatus.ORDER_PLACED));
+            assertThat(exception.getMessage()).contains("재고가 부족합니다");
+        }
+
+        @DisplayName("주문 취소는 재고를 복원한다")
+        @Test
+        void cancel_restores() {
+            saveProduct(5L);
+
+            productService.updateStock(PRODUCT_ID, 3L, OrderStatus.ORDER_PLACED);
+            productService.updateStock(PRODUCT_ID, 3L, OrderStatus.ORDER_CANCEL);
+
+            assertThat(quantity()).isEqualTo(5L);
+        }
+    }
+
+    @DisplayName("여러 상품 batch 재고 차감")
+    @Nested
+    class BatchDecrement {
+
+        @DisplayName("상품별 반영 여부를 상품코드 순으로 반환한다")
+        @Test
+        void reports_per_line() {
+            saveProduct("A0001", 5L);
+            saveProduct("A0002", 1L);
+
+            Map<String, Boolean> results = productRepository.decreaseStockBatch(Map.of("A0002", 2L, "A0001", 3L, "A9999", 1L));
+
+            assertThat(results).containsExactly(
+                Map.entry("A0001", true), Map.entry("A0002", false), Map.entry("A9999", false));
+        }
+
+        @DisplayName("한 상품이라도 재고가 부족하면 전체가 롤백된다")
+        @Test
+        void rolls_back_on_partial_failure() {
+            saveProduct("A0001", 5L);
+            saveProduct("A0002", 1L);
+
+            CoreException exception = assertThrows(CoreException.class,
+                () -> productService.decreaseStockBatch(Map.of("A0001", 3L, "A0002", 2L)));
+
+            assertThat(exception.getMessage()).contains("재고가 부족합니다").contains("A0002");
+            assertThat(quantity("A0001")).isEqualTo(5L);
+            assertThat(quantity("A0002")).isEqualTo(1L);
+        }
+
+        @DisplayName("상품 순서가 반대인 여러 상품 주문이 동시에 들어와도 교착 없이 모두 반영된다")
+        @Test
+        void no_deadlock_between_multi_item_orders() throws InterruptedException {
+            saveProduct("A0001", 10_000L);
+            saveProduct("A0002", 10_000L);
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger turn = new AtomicInteger();
+
+            runConcurrently(productId -> {
+                Map<String, Long> lines = new LinkedHashMap<>();
+                if (turn.getAndIncrement() % 2 == 0) {
+                    lines.put("A0001", 1L);
+                    lines.put("A0002", 1L);
+                } else {
+                    lines.put("A0002", 1L);
+                    lines.put("A0001", 1L);
+                }
+                productService.decreaseStockBatch(lines);
+            }, successCount);
+
+            int orders = THREAD_COUNT * ORDERS_PER_THREAD;
+            assertThat(successCount.get()).isEqualTo(orders);
+            assertThat(quantity("A0001")).isEqualTo(10_000L - orders);
+            assertThat(quantity("A0002")).isEqualTo(10_000L - orders);
+        }
+    }
+
+    @DisplayName("조건부 UPDATE와 비관락 경로의 처리량을 비교한다 (두 경로 모두 차감 결과는 같아야 한다)")
+    @Test
+    void compare_throughput_with_pessimistic() throws InterruptedException {
+        long orders = (long) THREAD_COUNT * ORDERS_PER_THREAD;
+
+        saveProduct(10_000L);
+        long pessimisticMs = runConcurrently(
+            productId -> productService.updateStockPessimistic(productId, 1L, OrderStatus.ORDER_PLACED), new AtomicInteger());
+        long pessimisticQuantity = quantity();
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+
+        saveProduct(10_000L);
+        long atomicMs = runConcurrently(
+            productId -> productService.updateStock(productId, 1L, OrderStatus.ORDER_PLACED), new AtomicInteger());
+        long atomicQuantity = quantity();
+
+        log.info("재고 차감 {}건 - pessimistic: {}ms ({} ops/s), atomic: {}ms ({} ops/s)",
+            orders,
+            pessimisticMs, orders * 1000 / Math.max(pessimisticMs, 1),
+            atomicMs, orders * 1000 / Math.max(atomicMs, 1));
+
+        assertThat(pessimisticQuantity).isEqualTo(10_000L - orders);
+        assertThat(atomicQuantity).isEqualTo(10_000L - orders);
+    }
+}
@@ -0,0 +1,253 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.application.payment.PaymentFacade;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderDetail;
+import com.loopers.domain.order.event.OrderEventHandler;
+import com.loopers.domain.payment.PaymentService;
+import com.loopers.domain.payment.TransactionStatus;
+import com.loopers.domain.product.StockReservationRepository.ConfirmResult;
+import com.loopers.infrastructure.product.ProductJPARepository;
+import com.loopers.interfaces.api.payment.PaymentDto.CreateCallbackRequest;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+@SpringBootTest(properties = {
+    "stock.reservation.enabled=true",
+    "stock.reservation.ttl=300ms",
+    "stock.reservation.flush-interval=1h",
+    "stock.reservation.sweep-interval=1h"
+})
+public class StockReservationServiceTest {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductJPARepository productJPARepository;
+
+    @Autowired
+    private OrderEventHandler orderEventHandler;
+
+    @Autowired
+    private PaymentFacade paymentFacade;
+
+    // 주문/결제 행 없이 PG 콜백의 재고 처리만 검증
+    @MockBean
+    private PaymentService paymentService;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private void saveProduct(String code, long quantity) {
+        productRepository.save(Product.create(
+            code, "테스트 물품", BigDecimal.valueOf(1000), quantity,
+            "image.jpg", "테스트 물품 설명", "ELECTRIC", "컴퓨터", "노트북"
+        ));
+    }
+
+    private long quantity(String code) {
+        return productJPARepository.findByCode(code).getQuantity();
+    }
+
+    private long available(String code) {
+        return stockReservationRepository.findAvailable(List.of(code)).get(code);
+    }
+
+    @DisplayName("재고 예약")
+    @Nested
+    class Reserve {
+
+        @DisplayName("주문 상품 중 하나라도 재고가 부족하면 아무것도 예약하지 않는다")
+        @Test
+        void reserve_allOrNothing() {
+            saveProduct("A0001", 10L);
+            saveProduct("A0002", 1L);
+
+            CoreException exception = assertThrows(CoreException.class,
+                () -> stockReservationService.reserve("ORDER00001", Map.of("A0001", 3L, "A0002", 2L)));
+
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+            assertThat(available("A0001")).isEqualTo(10L);
+            assertThat(available("A0002")).isEqualTo(1L);
+        }
+
+        @DisplayName("동시에 예약해도 가용 재고보다 많이 예약되지 않는다")
+        @Test
+        void reserve_concurrently() throws InterruptedException {
+            saveProduct("A0001", 10L);
+            int threadCount = 30;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch done = new CountDownLatch(threadCount);
+            AtomicInteger successCount = new AtomicInteger();
+
+            for (int i = 0; i < threadCount; i++) {
+                String reservationId = "ORDER" + i;
+                executorService.submit(() -> {
+                    try {
+                        stockReservationService.reserve(reservationId, Map.of("A0001", 1L));
+                        successCount.incrementAndGet();
+                    } catch (CoreException e) {
+                        // 재고 부족
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await(30, TimeUnit.SECONDS);
+            executorService.shutdown();
+
+            assertThat(successCount.get()).isEqualTo(10);
+            assertThat(available("A0001")).isZero();
+            // 확정 전에는 DB 재고를 건드리지 않는다
+            assertThat(quantity("A0001")).isEqualTo(10L);
+        }
+    }
+
+    @DisplayName("확정/해제")
+    @Nested
+    class ConfirmAndRelease {
+
+        @DisplayName("확정한 예약은 flush 시 products 재고에 반영된다")
+        @Test
+        void confirm_thenFlush() {
+            saveProduct("A0001", 10L);
+            saveProduct("A0002", 5L);
+            stockReservationService.reserve("ORDER00001", Map.of("A0001", 3L, "A0002", 2L));
+            stockReservationService.reserve("ORDER00002", Map.of("A0001", 1L));
+
+            assertThat(stockReservationService.confirm("ORDER00001")).isEqualTo(ConfirmResult.CONFIRMED);
+            assertThat(stockReservationService.confirm("ORDER00002")).isEqualTo(ConfirmResult.CONFIRMED);
+            assertThat(stockReservationService.confirm("ORDER00001")).isEqualTo(ConfirmResult.ALREADY_CONFIRMED);
+            stockReservationService.flushConfirmed();
+
+            assertThat(quantity("A0001")).isEqualTo(6L);
+            assertThat(quantity("A0002")).isEqualTo(3L);
+            assertThat(available("A0001")).isEqualTo(6L);
+        }
+
+        @DisplayName("해제한 예약은 가용 재고로 돌아가고 다시 확정할 수 없다")
+        @Test
+        void release() {
+            saveProduct("A0001", 10L);
+            stockReservationService.reserve("ORDER00001", Map.of("A0001", 4L));
+
+            assertThat(stockReservationService.release("ORDER00001")).isTrue();
+
+            assertThat(available("A0001")).isEqualTo(10L);
+            assertThat(stockReservationService.confirm("ORDER00001")).isEqualTo(ConfirmResult.EXPIRED);
+            assertThat(stockReservationService.release("ORDER00001")).isFalse();
+        }
+
+        @DisplayName("만료된 예약은 sweep 시 가용 재고로 돌아간다")
+        @Test
+        void releaseExpired() throws InterruptedException {
+            saveProduct("A0001", 10L);
+            stockReservationService.reserve("ORDER00001", Map.of("A0001", 4L));
+            Thread.sleep(500);
+
+            assertThat(stockReservationService.releaseExpired()).isEqualTo(1);
+
+            assertThat(available("A0001")).isEqualTo(10L);
+            assertThat(stockReservationService.confirm("ORDER00001")).isEqualTo(ConfirmResult.EXPIRED);
+            assertThat(quantity("A0001")).isEqualTo(10L);
+        }
+
+        @DisplayName("예약을 거치지 않고 DB 재고를 차감하면 가용 재고에서도 차감된다 (진행 중인 예약은 유지)")
+        @Test
+        void directDecrease_adjustsMirror() {
+            saveProduct("A0001", 10L);
+            stockReservationService.reserve("ORDER00001", Map.of("A0001", 3L));
+
+            productService.decreaseStockBatch(Map.of("A0001", 2L));
+
+            assertThat(quantity("A0001")).isEqualTo(8L);
+            assertThat(available("A0001")).isEqualTo(5L);
+        }
+    }
+
+    @DisplayName("결제 후속 처리와 PG 콜백")
+    @Nested
+    class PaymentPaths {
+
+        private Order order(String productId, long quantity) {
+            return Order.createOrder("utlee",
+                List.of(OrderDetail.CreateOrderDetail(productId, quantity, BigDecimal.valueOf(1000))), null, null);
+        }
+
+        private CreateCallbackRequest callback(Order order) {
+            return new CreateCallbackRequest("TX0001", order.getOrderNo(), "SAMSUNG", "1234-5678-9814-1451",
+                BigDecimal.valueOf(3000), TransactionStatus.SUCCESS, null);
+        }
+
+        @DisplayName("같은 주문을 결제 후속 처리와 PG 콜백이 모두 처리해도 재고는 한 번만 차감된다")
+        @Test
+        void handlerAndCallback_decreaseOnce() {
+            saveProduct("A0001", 10L);
+            Order order = order("A0001", 3L);
+            stockReservationService.reserve(order.getOrderNo(), Map.of("A0001", 3L));
+
+            orderEventHandler.updateProductStock(order);
+            paymentFacade.updatePaymentStatusAndStock(callback(order));
+            stockReservationService.flushConfirmed();
+
+            assertThat(quantity("A0001")).isEqualTo(7L);
+            assertThat(available("A0001")).isEqualTo(7L);
+        }
+
+        @DisplayName("예약이 만료된 주문도 두 경로 중 첫 처리에서만 DB 재고를 차감한다")
+        @Test
+        void expired_decreaseOnce() throws InterruptedException {
+            saveProduct("A0001", 10L);
+            Order order = order("A0001", 3L);
+            stockReservationService.reserve(order.getOrderNo(), Map.of("A0001", 3L));
+            Thread.sleep(500);
+            stockReservationService.releaseExpired();
+
+            orderEventHandler.updateProductStock(order);
+            paymentFacade.updatePaymentStatusAndStock(callback(order));
+            stockReservationService.flushConfirmed();
+
+            assertThat(quantity("A0001")).isEqualTo(7L);
+            assertThat(available("A0001")).isEqualTo(7L);
+        }
+    }
+}
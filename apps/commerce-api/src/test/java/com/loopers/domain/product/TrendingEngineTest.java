@@ -0,0 +1,127 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.utils.RedisCleanUp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+    "product.trending.enabled=true",
+    "product.trending.snapshot-interval=1h",
+    "product.trending.reload-interval=0s"
+})
+class TrendingEngineTest {
+
+    @Autowired
+    private TrendingEngine trendingEngine;
+
+    @Autowired
+    private TrendingScoreRepository trendingScoreRepository;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        // 남은 증분을 비운 뒤, 비어 있는 Redis로 메모리 상태 초기화
+        trendingEngine.snapshot();
+        redisCleanUp.truncateAll();
+        trendingEngine.snapshot();
+    }
+
+    @DisplayName("트렌딩 순위")
+    @Nested
+    class Top {
+
+        @DisplayName("오래된 점수는 window 반감기에 따라 감쇠되어 최근 점수보다 낮아진다")
+        @Test
+        void older_scores_decay_by_window() {
+            Instant now = Instant.now();
+            trendingEngine.record("P1", "B1", 10, now.minus(Duration.ofDays(2)));
+            trendingEngine.record("P2", "B1", 4, now);
+
+            // 1d 반감기: 10 * 1/4 < 4, 7d 반감기: 10 * 2^(-2/7) > 4
+            assertThat(trendingEngine.top(null, TrendingWindow.DAY, 10))
+                .extracting(TrendingProduct::productId).containsExactly("P2", "P1");
+            assertThat(trendingEngine.top(null, TrendingWindow.WEEK, 10))
+                .extracting(TrendingProduct::productId).containsExactly("P1", "P2");
+        }
+
+        @DisplayName("브랜드를 지정하면 해당 브랜드 상품만, 지정하지 않으면 전체를 반환한다")
+        @Test
+        void filters_by_brand() {
+            Instant now = Instant.now();
+            trendingEngine.record("P1", "B1", 1, now);
+            trendingEngine.record("P2", "B2", 3, now);
+            trendingEngine.record("P3", "B1", 2, now);
+
+            assertThat(trendingEngine.top("B1", TrendingWindow.DAY, 10))
+                .extracting(TrendingProduct::productId).containsExactly("P3", "P1");
+            assertThat(trendingEngine.top(null, TrendingWindow.DAY, 2))
+                .extracting(TrendingProduct::productId).containsExactly("P2", "P3");
+        }
+
+        @DisplayName("점수가 차감되어 0 이하가 되면 순위에서 빠진다")
+        @Test
+        void non_positive_scores_are_removed() {
+            Instant now = Instant.now();
+            trendingEngine.record("P1", "B1", 1, now);
+            trendingEngine.record("P1", "B1", -1, now);
+
+            assertThat(trendingEngine.top("B1", TrendingWindow.DAY, 10)).isEmpty();
+        }
+    }
+
+    @DisplayName("snapshot 이후 새로 뜬 엔진은 Redis 점수로 같은 순위를 복원한다")
+    @Test
+    void restores_from_snapshot() {
+        Instant now = Instant.now();
+        trendingEngine.record("P1", "B1", 1, now);
+        trendingEngine.record("P2", "B1", 5, now);
+        trendingEngine.snapshot();
+
+        TrendingEngine restarted = new TrendingEngine(trendingScoreRepository, true, 100, Duration.ZERO);
+        restarted.warmUp();
+
+        assertThat(restarted.top("B1", TrendingWindow.HOUR, 10))
+            .extracting(TrendingProduct::productId).containsExactly("P2", "P1");
+    }
+
+    @DisplayName("reload 주기 전에는 증분만 Redis에 누적하고, 다른 노드 점수로 메모리를 다시 만들지 않는다")
+    @Test
+    void snapshot_reloads_by_interval() {
+        TrendingEngine engine = new TrendingEngine(trendingScoreRepository, true, 100, Duration.ofHours(1));
+        engine.warmUp();
+        Instant now = Instant.now();
+        engine.record("P1", "B1", 1, now);
+        // 다른 노드가 누적한 점수
+        trendingScoreRepository.addScores(TrendingWindow.HOUR, TrendingWindow.HOUR.epochOf(now), Map.of("B1|P2", 5.0));
+
+        engine.snapshot();
+
+        assertThat(engine.top("B1", TrendingWindow.HOUR, 10))
+            .extracting(TrendingProduct::productId).containsExactly("P1");
+        assertThat(trendingScoreRepository.findScores(TrendingWindow.HOUR, TrendingWindow.HOUR.epochOf(now)))
+            .containsKeys("B1|P1", "B1|P2");
+    }
+
+    @DisplayName("top-K는 용량을 넘으면 가장 낮은 점수를 밀어낸다")
+    @Test
+    void topK_evicts_lowest() {
+        TrendingTopK topK = new TrendingTopK(2);
+        topK.update("P1", 1);
+        topK.update("P2", 2);
+        topK.update("P3", 3);
+        topK.update("P2", 4);
+
+        assertThat(topK.top(10)).extracting(TrendingProduct::productId).containsExactly("P2", "P3");
+    }
+}
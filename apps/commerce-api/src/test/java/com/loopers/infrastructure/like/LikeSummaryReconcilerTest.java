@@ -0,0 +1,107 @@
+package com.loopers.infrastructure.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.like.LikeSummaryRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.infrastructure.product.ProductJPARepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@SpringBootTest(properties = {
+    "like.reconcile.chunk-size=1",
+    "like.reconcile.chunk-pause=0s",
+    "like.reconcile.confirm-delay=0s"
+})
+class LikeSummaryReconcilerTest {
+
+    @Autowired
+    private LikeSummaryReconciler likeSummaryReconciler;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeSummaryRepository likeSummaryRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductJPARepository productJPARepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("likes 원본과 다른 like_summary를 청크 단위로 찾아 보정한다")
+    @Test
+    void repairs_drift() {
+        likeService.like("user1", "P1");
+        likeService.like("user2", "P1");
+        likeService.like("user1", "P2");
+        likeService.like("user1", "P3");
+
+        // P1은 과다, P2는 누락, P3은 좋아요가 모두 사라졌는데 남은 상태
+        likeSummaryRepository.applyDeltas(Map.of("P1", 5L, "P2", -1L));
+        likeRepository.deleteByProductIdAndUserId("user1", "P3");
+
+        long repaired = likeSummaryReconciler.reconcile();
+
+        assertThat(repaired).isEqualTo(3);
+        assertThat(likeSummaryRepository.LikeSummaryCountByProductId("P1")).isEqualTo(2L);
+        assertThat(likeSummaryRepository.LikeSummaryCountByProductId("P2")).isEqualTo(1L);
+        assertThat(likeSummaryRepository.LikeSummaryCountByProductId("P3")).isZero();
+        assertThat(redisTemplate.hasKey(LikeSummaryReconciler.CHECKPOINT_KEY)).isFalse();
+    }
+
+    @DisplayName("보정한 상품은 products.like_count에도 반영된다")
+    @Test
+    void repair_syncs_product_like_count() {
+        productRepository.save(Product.create(
+            "P1", "테스트 물품", BigDecimal.valueOf(1000), 10L,
+            "image.jpg", "테스트 물품 설명", "ELECTRIC", "컴퓨터", "노트북"
+        ));
+        likeService.like("user1", "P1");
+        likeSummaryRepository.applyDeltas(Map.of("P1", 3L));
+
+        likeSummaryReconciler.reconcile();
+
+        assertThat(productJPARepository.findByCode("P1").getLikeCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("드리프트가 없으면 아무것도 보정하지 않는다")
+    @Test
+    void no_drift() {
+        likeService.like("user1", "P1");
+        likeService.like("user2", "P2");
+
+        assertThat(likeSummaryReconciler.reconcile()).isZero();
+        assertThat(likeSummaryRepository.LikeSummaryCountByProductId("P1")).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,77 @@
+package com.loopers.infrastructure.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.domain.product.Product;
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 브랜드별 상품목록 쿼리의 실행계획 회귀 테스트 (인덱스 사용, filesort 없음)
+ */
+@SpringBootTest
+public class ProductListingExplainTest {
+
+    @Autowired
+    ProductJPARepository productJPARepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setup() {
+        List<Product> products = IntStream.range(0, 600)
+            .mapToObj(i -> Product.builder()
+                .code(String.format("P%04d", i))
+                .name("상품" + i)
+                .brand(String.format("B%04d", i % 20))
+                .price(BigDecimal.valueOf(1000L + (i * 37L) % 500))
+                .quantity(10L)
+                .likeCount((long) (i * 13) % 50)
+                .useYn(true)
+                .build())
+            .toList();
+        productJPARepository.saveAll(products);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("정렬 조건별 목록 쿼리는 전용 인덱스를 filesort 없이 사용한다")
+    @ParameterizedTest
+    @CsvSource({
+        "like_count DESC, code DESC, idx_products_brand_like",
+        "like_count ASC,  code ASC,  idx_products_brand_like",
+        "price ASC,       code ASC,  idx_products_brand_price",
+        "price DESC,      code DESC, idx_products_brand_price",
+        "created_at DESC, code DESC, idx_products_brand_latest"
+    })
+    void listing_uses_index(String sortKey, String codeOrder, String expectedIndex) {
+        String plan = explain(
+            "SELECT * FROM products p WHERE p.brand = 'B0001' AND p.use_yn = 1 " +
+                "ORDER BY p." + sortKey + ", p." + codeOrder + " LIMIT 20"
+        );
+
+        assertThat(plan).contains("\"key\": \"" + expectedIndex + "\"");
+        assertThat(plan).doesNotContain("\"using_filesort\": true");
+    }
+
+    private String explain(String sql) {
+        return (String) entityManager.createNativeQuery("EXPLAIN FORMAT=JSON " + sql).getSingleResult();
+    }
+}
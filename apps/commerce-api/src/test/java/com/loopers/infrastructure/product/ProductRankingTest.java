@@ -0,0 +1,196 @@
+package com.loopers.infrastructure.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.application.product.ProductPageResult;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductInfo;
+import com.loopers.domain.product.ProductRankingPage;
+import com.loopers.domain.product.SortBy;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+@SpringBootTest(properties = "product.ranking.enabled=true")
+public class ProductRankingTest {
+
+    @Autowired
+    ProductRankingRepositoryImpl productRankingRepository;
+
+    @Autowired
+    ProductRankingRebuilder productRankingRebuilder;
+
+    @Autowired
+    ProductRepositoryImpl productRepository;
+
+    @Autowired
+    ProductJPARepository productJPARepository;
+
+    @Autowired
+    DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    RedisCleanUp redisCleanUp;
+
+    @BeforeEach
+    void setup() {
+        productJPARepository.saveAll(List.of(
+            product("P1", "B1", 3000, 5),
+            product("P2", "B1", 1000, 10),
+            product("P3", "B1", 2000, 0),
+            product("P4", "B2", 500, 100)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("랭킹 조회")
+    @Nested
+    class FindPage {
+
+        @DisplayName("재생성된 랭킹은 정렬 조건별 순서와 브랜드 전체 건수를 반환한다")
+        @Test
+        void rebuilt_ranking_is_ordered() {
+            productRankingRebuilder.rebuild("B1");
+
+            ProductRankingPage likes = productRankingRepository.findPage("B1", SortBy.LIKE_DESC, 0, 10).orElseThrow();
+            ProductRankingPage priceAsc = productRankingRepository.findPage("B1", SortBy.PRICE_ASC, 0, 10).orElseThrow();
+            ProductRankingPage priceDescSecondPage = productRankingRepository.findPage("B1", SortBy.PRICE_DESC, 1, 2).orElseThrow();
+
+            assertThat(likes.productIds()).containsExactly("P2", "P1", "P3");
+            assertThat(likes.totalElements()).isEqualTo(3);
+            assertThat(priceAsc.productIds()).containsExactly("P2", "P3", "P1");
+            assertThat(priceDescSecondPage.productIds()).containsExactly("P2");
+        }
+
+        @DisplayName("랭킹이 없는 브랜드는 empty를 반환하고 증분 반영도 무시한다")
+        @Test
+        void missing_ranking_is_empty() {
+            productRankingRepository.incrementLikeCount("B2", "P4", 1);
+
+            Optional<ProductRankingPage> page = productRankingRepository.findPage("B2", SortBy.LIKE_DESC, 0, 10);
+
+            assertThat(page).isEmpty();
+        }
+
+        @DisplayName("좋아요 증분은 재생성 없이 순서에 반영된다")
+        @Test
+        void increment_reorders_ranking() {
+            productRankingRebuilder.rebuild("B1");
+
+            productRankingRepository.incrementLikeCount("B1", "P3", 20);
+
+            ProductRankingPage likes = productRankingRepository.findPage("B1", SortBy.LIKE_DESC, 0, 10).orElseThrow();
+            assertThat(likes.productIds()).containsExactly("P3", "P2", "P1");
+        }
+
+        @DisplayName("상품이 없는 브랜드는 빈 페이지를 반환해 조회마다 재생성하지 않고, 상품이 추가되면 다시 재생성 대상이 된다")
+        @Test
+        void empty_brand_is_marked() {
+            productRankingRebuilder.rebuild("B3");
+
+            Optional<ProductRankingPage> page = productRankingRepository.findPage("B3", SortBy.LIKE_DESC, 0, 10);
+
+            assertThat(page).isPresent();
+            assertThat(page.get().productIds()).isEmpty();
+            assertThat(page.get().totalElements()).isZero();
+
+            productRankingRepository.upsert(product("P5", "B3", 1000, 0));
+
+            assertThat(productRankingRepository.findPage("B3", SortBy.LIKE_DESC, 0, 10)).isEmpty();
+        }
+    }
+
+    @DisplayName("브랜드 상품목록 조회")
+    @Nested
+    class FindProductList {
+
+        @DisplayName("랭킹이 있으면 랭킹 순서대로 상품 정보를 조회한다")
+        @Test
+        void list_from_ranking() {
+            productRankingRebuilder.rebuild("B1");
+
+            ProductPageResult result = productRepository.findProductListByBrandCodeWithCache(
+                "B1", SortBy.PRICE_DESC, PageRequest.of(0, 2), Duration.ofMinutes(1)
+            );
+
+            assertThat(result.getProducts()).extracting(ProductInfo::getCode).containsExactly("P1", "P3");
+            assertThat(result.getTotalElements()).isEqualTo(3);
+            assertThat(result.getTotalPages()).isEqualTo(2);
+            assertThat(result.isHasNext()).isTrue();
+        }
+
+        @DisplayName("좋아요 수는 상세 캐시가 아니라 정렬에 쓰인 랭킹 score로 보여준다")
+        @Test
+        void like_count_from_ranking() {
+            productRankingRebuilder.rebuild("B1");
+            // 상세 캐시에 증분 반영 전 값이 남아 있는 상태
+            productRepository.findProductsWithCache(List.of("P3"), Duration.ofMinutes(1));
+            productRankingRepository.incrementLikeCount("B1", "P3", 20);
+
+            ProductPageResult result = productRepository.findProductListByBrandCodeWithCache(
+                "B1", SortBy.LIKE_DESC, PageRequest.of(0, 10), Duration.ofMinutes(1)
+            );
+
+            assertThat(result.getProducts()).extracting(ProductInfo::getCode).containsExactly("P3", "P2", "P1");
+            assertThat(result.getProducts()).extracting(ProductInfo::getLikeCount).containsExactly(20L, 10L, 5L);
+        }
+
+        @DisplayName("좋아요 수가 같은 상품은 랭킹과 SQL 모두 같은 순서로 조회한다")
+        @Test
+        void like_ties_match_sql() {
+            productJPARepository.saveAll(List.of(
+                product("P6", "B1", 1000, 5),
+                product("P7", "B1", 1000, 5)
+            ));
+            ProductPageResult fromSql = productRepository.findProductListByBrandCodeWithCache(
+                "B1", SortBy.LIKE_DESC, PageRequest.of(0, 10), Duration.ofMinutes(1)
+            );
+            redisCleanUp.truncateAll();
+            productRankingRebuilder.rebuild("B1");
+
+            ProductRankingPage fromRanking = productRankingRepository.findPage("B1", SortBy.LIKE_DESC, 0, 10).orElseThrow();
+
+            assertThat(fromRanking.productIds()).containsExactly("P2", "P7", "P6", "P1", "P3");
+            assertThat(fromSql.getProducts()).extracting(ProductInfo::getCode).containsExactlyElementsOf(fromRanking.productIds());
+        }
+
+        @DisplayName("랭킹이 없으면 SQL로 조회한다")
+        @Test
+        void fallback_to_sql() {
+            ProductPageResult result = productRepository.findProductListByBrandCodeWithCache(
+                "B1", SortBy.PRICE_ASC, PageRequest.of(0, 2), Duration.ofMinutes(1)
+            );
+
+            assertThat(result.getProducts()).extracting(ProductInfo::getCode).containsExactly("P2", "P3");
+            assertThat(result.getTotalElements()).isEqualTo(3);
+        }
+    }
+
+    private Product product(String code, String brand, long price, long likeCount) {
+        return Product.builder()
+            .code(code)
+            .name("상품" + code)
+            .brand(brand)
+            .price(BigDecimal.valueOf(price))
+            .quantity(10L)
+            .likeCount(likeCount)
+            .useYn(true)
+            .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.loopers.interfaces.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.domain.like.LikeService;
+import com.loopers.interfaces.api.like.LikeDto;
+import com.loopers.support.header.CustomHeader;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class LikeV1ApiE2ETest {
+
+    private static final String ENDPOINT_BATCH_STATUS = "/likes/batch-status";
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("POST /likes/batch-status")
+    @Nested
+    class BatchStatus {
+
+        @DisplayName("성공 - 상품별 좋아요 수와 요청 사용자의 좋아요 여부를 한 번에 반환한다")
+        @Test
+        void batchStatusSuccess() {
+            likeService.like("user1", "P1");
+            likeService.like("user2", "P1");
+            likeService.like("user2", "P2");
+
+            ResponseEntity<ApiResponse<LikeDto.BatchStatusResponse>> response = requestBatchStatus(
+                "user1", List.of("P1", "P2", "P3", "P1")
+            );
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().data().statuses()).containsExactly(
+                new LikeDto.Status("P1", 2L, true),
+                new LikeDto.Status("P2", 1L, false),
+                new LikeDto.Status("P3", 0L, false)
+            );
+        }
+
+        @DisplayName("실패 - 한 번에 조회할 수 있는 상품 수를 넘으면 400")
+        @Test
+        void batchStatusTooManyProducts() {
+            List<String> productIds = IntStream.range(0, 101).mapToObj(i -> "P" + i).toList();
+
+            ResponseEntity<ApiResponse<LikeDto.BatchStatusResponse>> response = requestBatchStatus("user1", productIds);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private ResponseEntity<ApiResponse<LikeDto.BatchStatusResponse>> requestBatchStatus(String userId, List<String> productIds) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(CustomHeader.USER_ID, userId);
+        return testRestTemplate.exchange(
+            ENDPOINT_BATCH_STATUS,
+            HttpMethod.POST,
+            new HttpEntity<>(new LikeDto.BatchStatusRequest(productIds), headers),
+            new ParameterizedTypeReference<>() {});
+    }
+}
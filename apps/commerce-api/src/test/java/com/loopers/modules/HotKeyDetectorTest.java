@@ -0,0 +1,77 @@
+package com.loopers.modules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.loopers.config.redis.HotKey;
+import com.loopers.config.redis.HotKeyDetector;
+import com.loopers.config.redis.RedisCacheProperties;
+import com.loopers.config.redis.RedisCacheSpec;
+import com.loopers.config.redis.RedisNearCache;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+public class HotKeyDetectorTest {
+
+    private static RedisCacheProperties properties(int topK, long minCount) {
+        return new RedisCacheProperties(true, 100L, null, null, null, null, null, List.of(
+            new RedisCacheSpec("product", "product:", Duration.ofSeconds(1), null, null, null)
+        ), true, topK, minCount, 1024, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("많은 키 사이에서 자주 접근한 키를 top-K로 찾는다")
+    void finds_heavy_hitters() {
+        HotKeyDetector detector = new HotKeyDetector(properties(3, 50));
+
+        for (int round = 0; round < 200; round++) {
+            detector.record("like", "HOT-1");
+            if (round % 2 == 0) {
+                detector.record("like", "HOT-2");
+            }
+            detector.record("like", "COLD-" + round);
+        }
+
+        assertThat(detector.topKeys()).extracting(HotKey::key).startsWith("HOT-1", "HOT-2");
+        assertThat(detector.isHot("like", "HOT-1")).isTrue();
+        assertThat(detector.isHot("stock", "HOT-1")).isFalse();
+        assertThat(detector.isHot("like", "COLD-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("top-K에 있어도 접근 수가 최소 기준보다 적으면 핫 키가 아니다")
+    void min_count_is_required() {
+        HotKeyDetector detector = new HotKeyDetector(properties(3, 50));
+
+        for (int i = 0; i < 10; i++) {
+            detector.record("like", "P1");
+        }
+
+        assertThat(detector.topKeys()).extracting(HotKey::key).containsExactly("P1");
+        assertThat(detector.isHot("like", "P1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("핫 키는 near cache의 pinned 영역에 저장된다")
+    @SuppressWarnings("unchecked")
+    void hot_keys_are_pinned_in_near_cache() {
+        RedisCacheProperties properties = properties(2, 5);
+        RedisNearCache nearCache = new RedisNearCache(properties, new HotKeyDetector(properties), mock(ObjectProvider.class));
+
+        for (int i = 0; i < 10; i++) {
+            nearCache.get("product:A0001", String.class);
+        }
+        nearCache.get("product:A0002", String.class);
+        nearCache.put("product:A0001", "hot", null);
+        nearCache.put("product:A0002", "cold", null);
+
+        assertThat(nearCache.pinnedSize()).isEqualTo(1);
+        assertThat(nearCache.get("product:A0001", String.class)).contains("hot");
+
+        nearCache.evict("product:A0001");
+        assertThat(nearCache.get("product:A0001", String.class)).isEmpty();
+    }
+}
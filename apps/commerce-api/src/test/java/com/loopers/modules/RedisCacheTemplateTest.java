@@ -0,0 +1,155 @@
+package com.loopers.modules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.loopers.config.redis.RedisCacheTemplate;
+import com.loopers.config.redis.RedisNearCache;
+import com.loopers.utils.RedisCleanUp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+public class RedisCacheTemplateTest {
+
+    @Autowired
+    RedisCacheTemplate redisCacheTemplate;
+
+    @Autowired
+    RedisNearCache nearCache;
+
+    @Autowired
+    RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 캐시 미스는 supplier를 한 번만 호출한다")
+    void getOrSet_single_flight() throws Exception {
+        int threadCount = 20;
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return redisCacheTemplate.getOrSet("product:single-flight", String.class, Duration.ofMinutes(1), () -> {
+                    loadCount.incrementAndGet();
+                    sleep(200);
+                    return "loaded";
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("loaded");
+        }
+        executor.shutdown();
+
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("supplier가 실패하면 합류한 요청에도 같은 예외를 전달하고, supplier를 다시 호출하지 않는다")
+    void getOrSet_loader_failure_not_retried() {
+        int threadCount = 10;
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return redisCacheTemplate.getOrSet("product:loader-failure", String.class, Duration.ofMinutes(1), () -> {
+                    loadCount.incrementAndGet();
+                    sleep(200);
+                    throw new IllegalStateException("load failed");
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        }
+        executor.shutdown();
+
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("soft TTL이 지나면 stale 값을 반환하고 비동기로 재계산한다")
+    void getOrSet_stale_while_revalidate() {
+        String key = "product:brand:stale-while-revalidate";
+        redisCacheTemplate.getOrSet(key, String.class, Duration.ofMillis(100), () -> "v1");
+        sleep(150);
+
+        String stale = redisCacheTemplate.getOrSet(key, String.class, Duration.ofMillis(100), () -> "v2");
+
+        assertThat(stale).isEqualTo("v1");
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (!"v2".equals(redisCacheTemplate.get(key, String.class).orElse(null)) && System.currentTimeMillis() < deadline) {
+            sleep(20);
+        }
+        assertThat(redisCacheTemplate.get(key, String.class)).contains("v2");
+    }
+
+    @Test
+    @DisplayName("setAll로 저장한 값을 getAll로 한 번에 조회하고, 없는 키는 제외된다")
+    void setAll_and_getAll() {
+        redisCacheTemplate.setAll(Map.of("product:M0001", "v1", "product:M0002", "v2"), Duration.ofMinutes(1));
+
+        Map<String, String> result = redisCacheTemplate.getAll(
+            List.of("product:M0001", "product:M0002", "product:M0003"), String.class
+        );
+
+        assertThat(result).containsOnly(
+            Map.entry("product:M0001", "v1"),
+            Map.entry("product:M0002", "v2")
+        );
+    }
+
+    @Test
+    @DisplayName("Redis에서 읽어 L1에 올린 값은 Redis의 남은 TTL보다 오래 남지 않는다")
+    void near_cache_bounded_by_redis_ttl() {
+        String key = "product:near-ttl";
+        redisCacheTemplate.set(key, "v1", Duration.ofMillis(300));
+        // 다른 노드처럼 L1 없이 Redis에서 읽어 L1을 채운다
+        nearCache.evict(key);
+        assertThat(redisCacheTemplate.get(key, String.class)).contains("v1");
+        sleep(400);
+
+        assertThat(redisCacheTemplate.get(key, String.class)).isEmpty();
+        assertThat(redisCacheTemplate.getAll(List.of(key), String.class)).isEmpty();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
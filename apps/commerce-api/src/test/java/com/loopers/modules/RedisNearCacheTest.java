@@ -0,0 +1,69 @@
+package com.loopers.modules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.loopers.config.redis.HotKeyDetector;
+import com.loopers.config.redis.RedisCacheProperties;
+import com.loopers.config.redis.RedisCacheSpec;
+import com.loopers.config.redis.RedisNearCache;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+public class RedisNearCacheTest {
+
+    private RedisNearCache nearCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        RedisCacheProperties properties = new RedisCacheProperties(true, 100L, null, null, null, null, null, List.of(
+            new RedisCacheSpec("product", "product:", Duration.ofSeconds(5), null, null, null),
+            new RedisCacheSpec("product-brand", "product:brand:", Duration.ZERO, null, null, null)
+        ), false, null, null, null, null);
+        nearCache = new RedisNearCache(properties, new HotKeyDetector(properties), mock(ObjectProvider.class));
+    }
+
+    @Test
+    @DisplayName("설정된 prefix의 키는 L1에 저장되고 조회된다")
+    void put_and_get() {
+        nearCache.put("product:A0001", "value", Duration.ofMinutes(1));
+
+        assertThat(nearCache.get("product:A0001", String.class)).contains("value");
+        assertThat(nearCache.get("product:A0001", Long.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가장 긴 prefix 설정이 우선 적용된다 (nearTtl 0이면 저장하지 않음)")
+    void longest_prefix_wins() {
+        nearCache.put("product:brand:B0001:0:10:LIKE_DESC", "page", Duration.ofMinutes(1));
+
+        assertThat(nearCache.get("product:brand:B0001:0:10:LIKE_DESC", String.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis TTL이 nearTtl보다 짧으면 Redis TTL로 만료된다")
+    void per_key_ttl() throws InterruptedException {
+        nearCache.put("product:A0001", "value", Duration.ofMillis(50));
+        Thread.sleep(120);
+
+        assertThat(nearCache.get("product:A0001", String.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키/prefix 단위로 무효화된다")
+    void evict() {
+        nearCache.put("product:A0001", "v1", null);
+        nearCache.put("product:A0002", "v2", null);
+
+        nearCache.evict("product:A0001");
+        assertThat(nearCache.get("product:A0001", String.class)).isEmpty();
+
+        nearCache.evictByPrefix("product:");
+        assertThat(nearCache.get("product:A0002", String.class)).isEmpty();
+    }
+}
@@ -0,0 +1,96 @@
+package com.loopers.modules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.ProductPageResult;
+import com.loopers.config.redis.JsonRedisValueCodec;
+import com.loopers.config.redis.RedisCacheProperties;
+import com.loopers.config.redis.RedisValueCodecRegistry;
+import com.loopers.config.redis.SmileRedisValueCodec;
+import com.loopers.domain.product.ProductInfo;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 캐시 값 코덱 크기/복원 검증 (기존 JSON 문자열 / Smile / Smile + LZ4)
+ */
+public class RedisValueCodecTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final JavaType pageType = objectMapper.constructType(ProductPageResult.class);
+
+    @Test
+    @DisplayName("Smile 코덱은 기존 JSON 문자열보다 작고, 같은 값으로 복원된다")
+    void compare_codecs() throws Exception {
+        ProductPageResult page = samplePage(20);
+        RedisValueCodecRegistry smile = registry(SmileRedisValueCodec.NAME, 0);
+        RedisValueCodecRegistry smileLz4 = registry(SmileRedisValueCodec.NAME, 256);
+
+        byte[] json = objectMapper.writeValueAsString(page).getBytes(StandardCharsets.UTF_8);
+        byte[] smileBytes = smile.encode(page);
+        byte[] smileLz4Bytes = smileLz4.encode(page);
+
+        assertThat(smileBytes.length).isLessThan(json.length);
+
+        ProductPageResult restored = smileLz4.decode(smileLz4Bytes, pageType);
+        assertThat(restored.getProducts()).hasSize(20);
+        assertThat(restored.getProducts().get(3).getPrice()).isEqualByComparingTo(page.getProducts().get(3).getPrice());
+    }
+
+    @Test
+    @DisplayName("대상 타입으로 바로 복원하면 JSON 코덱에서도 BigDecimal 값과 scale이 그대로 유지된다")
+    void decode_typed_keeps_big_decimal() throws Exception {
+        ProductPageResult page = samplePage(2);
+        RedisValueCodecRegistry json = registry(JsonRedisValueCodec.NAME, 0);
+
+        byte[] frame = json.encode(page);
+        ProductPageResult restored = json.decode(frame, pageType);
+
+        assertThat(json.isTyped(frame)).isTrue();
+        assertThat(json.isEnvelope(frame)).isFalse();
+        assertThat(restored.getProducts().get(1).getPrice()).isEqualTo(new BigDecimal("12901.00"));
+    }
+
+    @Test
+    @DisplayName("frame header가 없는 기존 JSON 문자열 값도 읽을 수 있다")
+    void decode_legacy_json() throws Exception {
+        ProductPageResult page = samplePage(2);
+        byte[] legacy = objectMapper.writeValueAsString(page).getBytes(StandardCharsets.UTF_8);
+
+        ProductPageResult restored = objectMapper.treeToValue(registry(SmileRedisValueCodec.NAME, 0).decode(legacy), ProductPageResult.class);
+
+        assertThat(restored.getProducts()).extracting(ProductInfo::getCode).containsExactly("P0000", "P0001");
+    }
+
+    private RedisValueCodecRegistry registry(String codec, int compressionThreshold) {
+        RedisCacheProperties properties = new RedisCacheProperties(true, 100L, null, null, null, codec, compressionThreshold, null, null, null, null, null, null);
+        return new RedisValueCodecRegistry(
+            List.of(new JsonRedisValueCodec(objectMapper), new SmileRedisValueCodec(objectMapper)),
+            properties
+        );
+    }
+
+    private ProductPageResult samplePage(int size) {
+        List<ProductInfo> products = IntStream.range(0, size)
+            .mapToObj(i -> new ProductInfo(
+                String.format("P%04d", i), "상품" + i, new BigDecimal("12900.00").add(BigDecimal.valueOf(i)), 100L + i,
+                "https://cdn.loopers.com/products/" + i + ".png", "상품 설명 " + i, "B0001",
+                "의류", "상의", "티셔츠", (long) i * 3
+            ))
+            .toList();
+        return ProductPageResult.builder()
+            .products(products)
+            .page(0)
+            .size(size)
+            .totalElements(size)
+            .totalPages(1)
+            .isFirst(true)
+            .isLast(true)
+            .build();
+    }
+}
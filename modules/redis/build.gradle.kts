@@ -5,6 +5,13 @@ plugins {
 
 dependencies {
     api("org.springframework.boot:spring-boot-starter-data-redis")
+    // near cache (W-TinyLFU)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    // metrics
+    implementation("io.micrometer:micrometer-core")
+    // cache value codec
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("org.lz4:lz4-java:${project.properties["lz4JavaVersion"]}")
 
     testFixturesImplementation("com.redis:testcontainers-redis")
 }
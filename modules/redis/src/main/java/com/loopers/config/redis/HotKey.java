@@ -0,0 +1,7 @@
+package com.loopers.config.redis;
+
+/**
+ * 핫 키 (namespace별 키와 Count-Min Sketch 추정 접근 수)
+ */
+public record HotKey(String namespace, String key, long estimate) {
+}
@@ -0,0 +1,168 @@
+package com.loopers.config.redis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내 핫 키 탐지 (Count-Min Sketch + Space-Saving 방식의 top-K 후보)
+ * 접근마다 sketch 카운터만 증가시키고(할당 없음), 추정치가 top-K 최솟값을 넘는 드문 경우에만
+ * 락을 잡고 최솟값 후보를 교체한다. width * 8번 접근마다 카운터를 절반으로 줄여 오래된 빈도를 감쇠한다.
+ * 키는 namespace + key로 구분하며 문자열 결합 없이 해시를 계산한다.
+ */
+@Component
+@Slf4j
+public class HotKeyDetector {
+    private static final int DEPTH = 4;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+    private static final Member[] EMPTY = new Member[0];
+
+    private final boolean enabled;
+    private final int capacity;
+    private final long minCount;
+    private final int width;
+    private final long agingPeriod;
+    private final AtomicLongArray counters;
+    private final AtomicLong operations = new AtomicLong();
+    private volatile Member[] members = EMPTY;
+    private volatile long admissionThreshold;
+
+    public HotKeyDetector(RedisCacheProperties properties) {
+        this.enabled = properties.isHotKeyEnabled();
+        this.capacity = properties.getHotKeyTopK();
+        this.minCount = properties.getHotKeyMinCount();
+        this.width = properties.getHotKeySketchWidth();
+        this.agingPeriod = (long) width * 8;
+        this.counters = new AtomicLongArray(DEPTH * width);
+    }
+
+    /**
+     * 접근 기록
+     */
+    public void record(String namespace, String key) {
+        if (!enabled || key == null) {
+            return;
+        }
+        int hash = hash(namespace, key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(hash, row)));
+        }
+        if (operations.incrementAndGet() % agingPeriod == 0) {
+            age();
+        }
+        if (estimate > admissionThreshold && !isMember(namespace, key)) {
+            offer(namespace, key);
+        }
+    }
+
+    /**
+     * 현재 top-K에 포함되고 추정 접근 수가 hot-key-min-count 이상인 키인지
+     * (접근이 적을 때 top-K에 들어 있는 것만으로 핫 키가 되지 않도록)
+     */
+    public boolean isHot(String namespace, String key) {
+        return isMember(namespace, key) && estimate(hash(namespace, key)) >= minCount;
+    }
+
+    private boolean isMember(String namespace, String key) {
+        for (Member member : members) {
+            if (member.namespace().equals(namespace) && member.key().equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 현재 top-K (추정 접근 수 내림차순)
+     */
+    public List<HotKey> topKeys() {
+        List<HotKey> hotKeys = new ArrayList<>();
+        for (Member member : members) {
+            hotKeys.add(new HotKey(member.namespace(), member.key(), estimate(member.hash())));
+        }
+        hotKeys.sort(Comparator.comparingLong(HotKey::estimate).reversed());
+        return hotKeys;
+    }
+
+    /**
+     * 후보 교체 - 자리가 있으면 추가, 없으면 추정치가 가장 낮은 후보보다 클 때만 교체
+     */
+    private synchronized void offer(String namespace, String key) {
+        if (isMember(namespace, key)) {
+            return;
+        }
+        int hash = hash(namespace, key);
+        long estimate = estimate(hash);
+        Member[] current = members;
+        Member[] next;
+        if (current.length < capacity) {
+            next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = new Member(namespace, key, hash);
+        } else {
+            int lowest = 0;
+            long lowestEstimate = Long.MAX_VALUE;
+            for (int i = 0; i < current.length; i++) {
+                long memberEstimate = estimate(current[i].hash());
+                if (memberEstimate < lowestEstimate) {
+                    lowest = i;
+                    lowestEstimate = memberEstimate;
+                }
+            }
+            if (estimate <= lowestEstimate) {
+                admissionThreshold = lowestEstimate;
+                return;
+            }
+            next = current.clone();
+            next[lowest] = new Member(namespace, key, hash);
+        }
+        members = next;
+        admissionThreshold = next.length < capacity ? 0 : minEstimate(next);
+        log.debug("Hot key admitted - namespace: {}, key: {}, estimate: {}", namespace, key, estimate);
+    }
+
+    private long minEstimate(Member[] candidates) {
+        long min = Long.MAX_VALUE;
+        for (Member member : candidates) {
+            min = Math.min(min, estimate(member.hash()));
+        }
+        return min;
+    }
+
+    private long estimate(int hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 카운터 절반 감쇠 (감쇠 중 증가분 일부가 함께 줄어드는 오차는 허용)
+     */
+    private void age() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, counters.get(i) >>> 1);
+        }
+        admissionThreshold >>>= 1;
+    }
+
+    private int index(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * 0x45D9F3B;
+        h ^= h >>> 16;
+        return row * width + (h & (width - 1));
+    }
+
+    private static int hash(String namespace, String key) {
+        int h = namespace.hashCode() * 31 + key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private record Member(String namespace, String key, int hash) {
+    }
+}
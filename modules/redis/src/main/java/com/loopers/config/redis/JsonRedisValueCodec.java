@@ -0,0 +1,51 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+
+/**
+ * JSON 코덱 (기존 문자열 저장 방식과 동일한 포맷)
+ */
+@Component
+public class JsonRedisValueCodec implements RedisValueCodec {
+    public static final String NAME = "json";
+
+    private final ObjectMapper objectMapper;
+    // 트리로 읽을 때 소수가 double로 바뀌어 BigDecimal 정밀도를 잃지 않도록
+    private final ObjectReader treeReader;
+
+    public JsonRedisValueCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.treeReader = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    }
+
+    @Override
+    public byte id() {
+        return 1;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public JsonNode decode(byte[] payload, int offset, int length) throws IOException {
+        return treeReader.readTree(payload, offset, length);
+    }
+
+    @Override
+    public <T> T decode(byte[] payload, int offset, int length, JavaType type) throws IOException {
+        return objectMapper.readValue(payload, offset, length, type);
+    }
+}
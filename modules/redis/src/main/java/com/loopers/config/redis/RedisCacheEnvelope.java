@@ -0,0 +1,13 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * soft/hard TTL 캐시 값 envelope (soft 만료 시각, 재계산 소요시간, 값)
+ */
+record RedisCacheEnvelope<T>(
+    @JsonProperty("__soft") long softExpireAt,
+    @JsonProperty("__delta") long deltaMillis,
+    @JsonProperty("__value") T value
+) {
+}
@@ -0,0 +1,163 @@
+package com.loopers.config.redis;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드간 L1(near cache) 무효화 버스
+ *
+ * 무효화 요청은 바로 로컬 L1에서 제거하고, Redis pub/sub 채널로는 flush 주기마다 모아서 발행한다.
+ * 같은 키는 최신 version 하나로 합쳐지고, 함께 대기중인 prefix에 포함되는 키는 제외된다.
+ *
+ * 메시지 포맷 (줄 단위)
+ * <pre>
+ * {nodeId}
+ * K|{version}|{key}
+ * P|{version}|{prefix}
+ * </pre>
+ */
+@Component
+@Slf4j
+public class RedisCacheInvalidationBus implements MessageListener {
+    public static final String CHANNEL = "cache:invalidation";
+
+    private static final String KEY = "K";
+    private static final String PREFIX = "P";
+    private static final int MAX_ENTRIES_PER_MESSAGE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisNearCache nearCache;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong version = new AtomicLong();
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public RedisCacheInvalidationBus(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        RedisNearCache nearCache,
+        RedisCacheProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.nearCache = nearCache;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-invalidation-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Duration interval = properties.getInvalidationFlushInterval();
+        flusher.scheduleWithFixedDelay(this::flush, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 키 단위 무효화
+     */
+    public void publishKey(String key) {
+        nearCache.evict(key);
+        pending.put(KEY + "|" + key, version.incrementAndGet());
+    }
+
+    /**
+     * prefix 단위 무효화
+     */
+    public void publishPrefix(String prefix) {
+        nearCache.evictByPrefix(prefix);
+        pending.put(PREFIX + "|" + prefix, version.incrementAndGet());
+    }
+
+    /**
+     * 대기중인 무효화를 모아서 발행
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            List<Invalidation> drained = new ArrayList<>();
+            Iterator<Map.Entry<String, Long>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Long> entry = iterator.next();
+                if (!pending.remove(entry.getKey(), entry.getValue())) {
+                    continue; // 그 사이 갱신된 요청은 다음 flush에서 발행
+                }
+                String[] typeAndTarget = entry.getKey().split("\\|", 2);
+                drained.add(new Invalidation(typeAndTarget[0], entry.getValue(), typeAndTarget[1]));
+            }
+
+            // 함께 발행되는 prefix에 포함되는 키 무효화는 생략
+            List<String> prefixes = drained.stream()
+                .filter(Invalidation::isPrefix)
+                .map(Invalidation::target)
+                .toList();
+            List<String> lines = drained.stream()
+                .filter(invalidation -> invalidation.isPrefix()
+                    || prefixes.stream().noneMatch(prefix -> invalidation.target().startsWith(prefix)))
+                .map(Invalidation::toLine)
+                .toList();
+
+            for (int from = 0; from < lines.size(); from += MAX_ENTRIES_PER_MESSAGE) {
+                List<String> chunk = lines.subList(from, Math.min(from + MAX_ENTRIES_PER_MESSAGE, lines.size()));
+                redisTemplate.convertAndSend(CHANNEL, nodeId + "\n" + String.join("\n", chunk));
+            }
+            log.debug("Cache invalidation published - requested: {}, sent: {}", drained.size(), lines.size());
+        } catch (Exception e) {
+            log.warn("Cache invalidation publish failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] lines = new String(message.getBody(), StandardCharsets.UTF_8).split("\n");
+        if (lines.length == 0 || nodeId.equals(lines[0])) {
+            return;
+        }
+        for (int i = 1; i < lines.length; i++) {
+            String[] parts = lines[i].split("\\|", 3);
+            if (parts.length < 3) {
+                continue;
+            }
+            if (PREFIX.equals(parts[0])) {
+                nearCache.evictByPrefix(parts[2]);
+            } else {
+                nearCache.evict(parts[2]);
+            }
+        }
+        log.debug("Cache invalidation received - from: {}, entries: {}", lines[0], lines.length - 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        flusher.shutdown();
+    }
+
+    private record Invalidation(String type, long version, String target) {
+        boolean isPrefix() {
+            return PREFIX.equals(type);
+        }
+
+        String toLine() {
+            return type + "|" + version + "|" + target;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.loopers.config.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * RedisCacheTemplate 지표 (캐시 이름별 tag)
+ */
+@Component
+public class RedisCacheMetrics {
+    private static final String PREFIX = "redis.cache.";
+
+    private final MeterRegistry registry;
+
+    public RedisCacheMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    /**
+     * 같은 키의 진행중인 로딩을 기다린 요청 수
+     */
+    public void coalesced(String cacheName) {
+        counter("singleflight.coalesced", cacheName).increment();
+    }
+
+    /**
+     * 실제 supplier(로더) 호출 수
+     */
+    public void loaded(String cacheName) {
+        counter("load", cacheName).increment();
+    }
+
+    /**
+     * 다른 노드의 lease를 기다린 결과 (hit: 대기중 값이 채워짐)
+     */
+    public void leaseWaited(String cacheName, boolean hit) {
+        counter(hit ? "lease.wait.hit" : "lease.wait.timeout", cacheName).increment();
+    }
+
+    /**
+     * soft TTL 경과(또는 조기 만료)로 예약된 비동기 재계산 수
+     */
+    public void refreshScheduled(String cacheName) {
+        counter("refresh.scheduled", cacheName).increment();
+    }
+
+    /**
+     * 재계산 풀이 가득 차서 버려진 요청 수
+     */
+    public void refreshRejected(String cacheName) {
+        counter("refresh.rejected", cacheName).increment();
+    }
+
+    private Counter counter(String name, String cacheName) {
+        return Counter.builder(PREFIX + name)
+            .tag("cache", cacheName)
+            .register(registry);
+    }
+}
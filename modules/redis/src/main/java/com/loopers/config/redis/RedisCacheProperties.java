@@ -0,0 +1,103 @@
+package com.loopers.config.redis;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(value = "redis.cache")
+public class RedisCacheProperties {
+    private static final RedisCacheSpec DEFAULT_SPEC = new RedisCacheSpec("default", "", Duration.ZERO, null, null, null);
+
+    private final Boolean nearCacheEnabled;
+    private final Long nearCacheMaximumSize;
+    private final Duration invalidationFlushInterval;
+    private final Integer refreshPoolSize;
+    private final Integer refreshQueueCapacity;
+    private final String codec;
+    private final Integer compressionThreshold;
+    private final List<RedisCacheSpec> specs;
+    private final Boolean hotKeyEnabled;
+    private final Integer hotKeyTopK;
+    private final Long hotKeyMinCount;
+    private final Integer hotKeySketchWidth;
+    private final Duration nearCachePinnedTtl;
+
+    public boolean isNearCacheEnabled() {
+        return nearCacheEnabled == null || nearCacheEnabled;
+    }
+
+    public long getNearCacheMaximumSize() {
+        return nearCacheMaximumSize != null ? nearCacheMaximumSize : 10_000L;
+    }
+
+    public Duration getInvalidationFlushInterval() {
+        return invalidationFlushInterval != null ? invalidationFlushInterval : Duration.ofMillis(50);
+    }
+
+    public int getRefreshPoolSize() {
+        return refreshPoolSize != null ? refreshPoolSize : 4;
+    }
+
+    public int getRefreshQueueCapacity() {
+        return refreshQueueCapacity != null ? refreshQueueCapacity : 1_000;
+    }
+
+    public String getCodec() {
+        return codec != null ? codec : SmileRedisValueCodec.NAME;
+    }
+
+    /**
+     * 이 크기(byte) 이상인 값은 LZ4로 압축 (0 이하면 압축하지 않음)
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold != null ? compressionThreshold : 1_024;
+    }
+
+    public boolean isHotKeyEnabled() {
+        return hotKeyEnabled == null || hotKeyEnabled;
+    }
+
+    public int getHotKeyTopK() {
+        return hotKeyTopK != null ? hotKeyTopK : 32;
+    }
+
+    /**
+     * top-K 중 이 접근 수(감쇠 반영 추정치) 이상인 키만 핫 키로 판정
+     */
+    public long getHotKeyMinCount() {
+        return hotKeyMinCount != null ? hotKeyMinCount : 100L;
+    }
+
+    /**
+     * Count-Min Sketch 행당 카운터 수 (2의 거듭제곱으로 올림)
+     */
+    public int getHotKeySketchWidth() {
+        int width = hotKeySketchWidth != null ? hotKeySketchWidth : 4_096;
+        return Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+    }
+
+    /**
+     * 핫 키로 판정된 키의 L1 TTL (캐시별 nearTtl보다 길게, Redis TTL보다는 짧게)
+     */
+    public Duration getNearCachePinnedTtl() {
+        return nearCachePinnedTtl != null ? nearCachePinnedTtl : Duration.ofSeconds(30);
+    }
+
+    /**
+     * 키에 해당하는 캐시 설정 조회 (가장 긴 prefix 우선)
+     */
+    public RedisCacheSpec resolve(String key) {
+        if (specs == null || key == null) {
+            return DEFAULT_SPEC;
+        }
+        return specs.stream()
+            .filter(spec -> spec.matches(key))
+            .max(Comparator.comparingInt(spec -> spec.getPrefix().length()))
+            .orElse(DEFAULT_SPEC);
+    }
+}
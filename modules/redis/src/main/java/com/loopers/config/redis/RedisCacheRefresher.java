@@ -0,0 +1,70 @@
+package com.loopers.config.redis;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * soft TTL이 지난 캐시의 비동기 재계산 (stale-while-revalidate)
+ * 크기가 제한된 풀에서 키당 하나의 재계산만 실행하고, 큐가 차면 요청을 버린다(다음 조회에서 다시 시도).
+ */
+@Component
+@Slf4j
+public class RedisCacheRefresher {
+    private final ThreadPoolExecutor executor;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final RedisCacheMetrics metrics;
+
+    public RedisCacheRefresher(RedisCacheProperties properties, RedisCacheMetrics metrics) {
+        this.metrics = metrics;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            properties.getRefreshPoolSize(), properties.getRefreshPoolSize(),
+            60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(properties.getRefreshQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cache-refresh-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 재계산 요청 (이미 진행중인 키는 무시)
+     */
+    public void refresh(String key, String cacheName, Runnable task) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.warn("Cache refresh failed - key: {}, error: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+            metrics.refreshScheduled(cacheName);
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            metrics.refreshRejected(cacheName);
+            log.debug("Cache refresh rejected - key: {}", key);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,55 @@
+package com.loopers.config.redis;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시 이름(키 prefix)별 설정
+ */
+@Getter
+@RequiredArgsConstructor
+public class RedisCacheSpec {
+    private final String name;
+    private final String prefix;
+    private final Duration nearTtl;
+    private final Duration leaseTtl;
+    private final Duration staleTtl;
+    private final Double earlyRefreshBeta;
+
+    public boolean matches(String key) {
+        return prefix != null && key.startsWith(prefix);
+    }
+
+    public boolean isNearCacheEnabled() {
+        return nearTtl != null && !nearTtl.isZero() && !nearTtl.isNegative();
+    }
+
+    /**
+     * 분산 lease(SET NX) 사용 여부
+     */
+    public boolean isLeaseEnabled() {
+        return leaseTtl != null && !leaseTtl.isZero() && !leaseTtl.isNegative();
+    }
+
+    /**
+     * soft/hard TTL envelope 사용 여부 (stale 구간 또는 조기 만료가 설정된 경우)
+     */
+    public boolean isSoftTtlEnabled() {
+        return getStaleTtl().compareTo(Duration.ZERO) > 0 || getEarlyRefreshBeta() > 0;
+    }
+
+    /**
+     * soft TTL 이후 stale 값을 내려줄 수 있는 추가 시간 (hard TTL = ttl + staleTtl)
+     */
+    public Duration getStaleTtl() {
+        return staleTtl != null && !staleTtl.isNegative() ? staleTtl : Duration.ZERO;
+    }
+
+    /**
+     * XFetch 조기 만료 계수 (0이면 soft TTL 경과 후에만 재계산)
+     */
+    public double getEarlyRefreshBeta() {
+        return earlyRefreshBeta != null && earlyRefreshBeta > 0 ? earlyRefreshBeta : 0;
+    }
+}
@@ -1,49 +1,187 @@
 package com.loopers.config.redis;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RedisCacheTemplate {
+    private static final String GENERATION_PREFIX = "gen:";
+    private static final int SCAN_BATCH_SIZE = 500;
+    private static final String LEASE_PREFIX = "lease:";
+    private static final String ENVELOPE_SOFT_EXPIRE_AT = "__soft";
+    private static final String ENVELOPE_DELTA = "__delta";
+    private static final String ENVELOPE_VALUE = "__value";
+    private static final Duration LEASE_POLL_INTERVAL = Duration.ofMillis(20);
+    private static final Duration SINGLE_FLIGHT_WAIT = Duration.ofSeconds(2);
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final RedisValueCodecRegistry codecRegistry;
     private final ObjectMapper objectMapper;
+    private final RedisNearCache nearCache;
+    private final RedisCacheInvalidationBus invalidationBus;
+    private final RedisCacheProperties properties;
+    private final RedisCacheMetrics metrics;
+    private final RedisCacheRefresher refresher;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final String leaseToken = UUID.randomUUID().toString();
 
     /**
      * 캐시에서 Object 값을 조회하고, 없으면 supplier를 통해 생성하여 캐시에 저장
+     * 같은 키의 캐시 미스는 JVM 내에서 한 번만 로딩하고(single-flight), 나머지 요청은 그 결과를 기다린다.
+     * soft TTL이 설정된 캐시는 ttl을 soft TTL로 보고, 이후 stale 구간에서는 기존 값을 내려주며 비동기로 재계산한다.
      */
     public <T> T getOrSet(String key, Class<T> clazz, Duration ttl, Supplier<T> supplier) {
         try {
             log.debug("getOrSet called - key: {}, class: {}", key, clazz.getSimpleName());
 
-            // 1. 캐시에서 조회 시도
-            Optional<T> cachedValue = get(key, clazz);
-            if (cachedValue.isPresent()) {
+            // 1. 캐시에서 조회 시도 (L1 -> Redis)
+            Optional<T> nearValue = nearCache.get(key, clazz);
+            if (nearValue.isPresent()) {
+                return nearValue.get();
+            }
+            Optional<CachedEntry<T>> cachedEntry = readEntry(key, clazz);
+            if (cachedEntry.isPresent()) {
                 log.debug("Cache hit - returning cached value for key: {}", key);
-                return cachedValue.get();
+                RedisCacheSpec spec = properties.resolve(key);
+                if (cachedEntry.get().shouldRefresh(System.currentTimeMillis(), spec.getEarlyRefreshBeta())) {
+                    // soft TTL 경과(또는 조기 만료) - stale 값을 내려주고 비동기로 재계산
+                    refresher.refresh(key, spec.getName(), () -> load(key, clazz, ttl, supplier));
+                }
+                return cachedEntry.get().value();
             }
 
-            // 2. 캐시 미스 - supplier를 통해 값 생성
+            // 2. 캐시 미스 - 진행중인 로딩이 있으면 합류, 없으면 직접 로딩
+            return singleFlight(key, clazz, () -> load(key, clazz, ttl, supplier));
+
+        } catch (LoaderException e) {
+            // supplier 자체의 실패는 다시 호출하지 않고 그대로 전달
+            throw e.getCause();
+        } catch (Exception e) {
+            log.error("Cache operation failed for key: {}, error: {}", key, e.getMessage(), e);
+            // 캐시 실패 시에도 서비스는 정상 동작 - supplier 호출
+            log.info("Falling back to supplier due to cache failure for key: {}", key);
+            try {
+                return supplier.get();
+            } catch (Exception supplierException) {
+                log.error("Supplier also failed for key: {}, error: {}", key, supplierException.getMessage(), supplierException);
+                throw new RuntimeException("Both cache and supplier failed", supplierException);
+            }
+        }
+    }
+
+    /**
+     * 키별 in-process single-flight
+     * 합류한 요청은 lease TTL(없으면 기본값)까지만 기다리고, 로딩이 늦으면 직접 로딩한다.
+     */
+    private <T> T singleFlight(String key, Class<T> clazz, Supplier<T> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            RedisCacheSpec spec = properties.resolve(key);
+            metrics.coalesced(spec.getName());
+            log.debug("Cache miss coalesced - waiting in-flight load for key: {}", key);
+            Duration wait = spec.isLeaseEnabled() ? spec.getLeaseTtl() : SINGLE_FLIGHT_WAIT;
+            try {
+                return clazz.cast(existing.get(wait.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+            } catch (TimeoutException e) {
+                log.warn("In-flight load timed out for key: {}, loading locally", key);
+                return loader.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting in-flight load for key: " + key, e);
+            }
+        }
+
+        try {
+            T value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * supplier 호출 후 캐시 저장
+     * lease가 설정된 캐시는 SET NX로 lease를 얻은 노드만 로딩하고, 나머지 노드는 lease TTL 동안 값이 채워지길 기다린다.
+     */
+    private <T> T load(String key, Class<T> clazz, Duration ttl, Supplier<T> supplier) {
+        RedisCacheSpec spec = properties.resolve(key);
+        String leaseKey = null;
+        if (spec.isLeaseEnabled()) {
+            leaseKey = LEASE_PREFIX + key;
+            if (!tryAcquireLease(leaseKey, spec.getLeaseTtl())) {
+                Optional<T> filled = awaitLeaseHolder(key, clazz, spec.getLeaseTtl());
+                metrics.leaseWaited(spec.getName(), filled.isPresent());
+                if (filled.isPresent()) {
+                    return filled.get();
+                }
+                // lease 보유 노드가 늦으면 직접 로딩
+                leaseKey = null;
+            }
+        }
+
+        try {
             log.debug("Cache miss - calling supplier for key: {}", key);
-            T value = supplier.get();
+            metrics.loaded(spec.getName());
+            long startedAt = System.currentTimeMillis();
+            T value;
+            try {
+                value = supplier.get();
+            } catch (RuntimeException e) {
+                throw new LoaderException(e);
+            }
+            long loadMillis = System.currentTimeMillis() - startedAt;
 
             if (value != null) {
                 log.debug("Setting cache - key: {}, value type: {}", key, value.getClass().getSimpleName());
 
                 // 3. 캐시 저장 시도 (실패해도 서비스는 정상 동작)
                 try {
-                    boolean cacheSet = set(key, value, ttl);
+                    boolean cacheSet = spec.isSoftTtlEnabled()
+                        ? setEntry(key, value, ttl, loadMillis, spec)
+                        : set(key, value, ttl);
                     if (cacheSet) {
                         log.debug("Cache set successfully for key: {}", key);
                     } else {
@@ -57,18 +195,45 @@ public class RedisCacheTemplate {
             }
 
             return value;
+        } finally {
+            if (leaseKey != null) {
+                releaseLease(leaseKey);
+            }
+        }
+    }
 
+    private boolean tryAcquireLease(String leaseKey, Duration leaseTtl) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, leaseToken, leaseTtl));
         } catch (Exception e) {
-            log.error("Cache operation failed for key: {}, error: {}", key, e.getMessage(), e);
-            // 캐시 실패 시에도 서비스는 정상 동작 - supplier 호출
-            log.info("Falling back to supplier due to cache failure for key: {}", key);
+            log.warn("Failed to acquire lease: {}, loading locally: {}", leaseKey, e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLease(String leaseKey) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), leaseToken);
+        } catch (Exception e) {
+            log.warn("Failed to release lease: {}, error: {}", leaseKey, e.getMessage());
+        }
+    }
+
+    private <T> Optional<T> awaitLeaseHolder(String key, Class<T> clazz, Duration leaseTtl) {
+        long deadline = System.nanoTime() + leaseTtl.toNanos();
+        while (System.nanoTime() < deadline) {
             try {
-                return supplier.get();
-            } catch (Exception supplierException) {
-                log.error("Supplier also failed for key: {}, error: {}", key, supplierException.getMessage(), supplierException);
-                throw new RuntimeException("Both cache and supplier failed", supplierException);
+                Thread.sleep(LEASE_POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            Optional<T> value = get(key, clazz);
+            if (value.isPresent()) {
+                return value;
             }
         }
+        return Optional.empty();
     }
 
     /**
@@ -76,9 +241,10 @@ public class RedisCacheTemplate {
      */
     public <T> boolean set(String key, T value, Duration ttl) {
         try {
-            String jsonValue = objectMapper.writeValueAsString(value);
-            redisTemplate.opsForValue().set(key, jsonValue, ttl);
-            log.debug("Cache set successfully - key: {}, ttl: {}, json length: {}", key, ttl, jsonValue.length());
+            byte[] encoded = codecRegistry.encode(value);
+            binaryRedisTemplate.opsForValue().set(key, encoded, ttl);
+            nearCache.put(key, value, ttl);
+            log.debug("Cache set successfully - key: {}, ttl: {}, length: {}", key, ttl, encoded.length);
             return true;
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize value for cache key: {}, value: {}", key, value, e);
@@ -94,8 +260,10 @@ public class RedisCacheTemplate {
      */
     public <T> boolean set(String key, T value) {
         try {
-            String jsonValue = objectMapper.writeValueAsString(value);
-            redisTemplate.opsForValue().set(key, jsonValue);
+            byte[] encoded = codecRegistry.encode(value);
+            binaryRedisTemplate.opsForValue().set(key, encoded);
+            // Redis에도 TTL이 없으므로 캐시별 nearTtl만 적용
+            nearCache.put(key, value, null);
             log.debug("Cache set - key: {}", key);
             return true;
         } catch (JsonProcessingException e) {
@@ -108,18 +276,51 @@ public class RedisCacheTemplate {
     }
 
     /**
-     * 캐시에서 Object 값 조회
+     * 캐시에서 Object 값 조회 (L1 near cache -> Redis 순)
      */
     public <T> Optional<T> get(String key, Class<T> clazz) {
+        Optional<T> nearValue = nearCache.get(key, clazz);
+        if (nearValue.isPresent()) {
+            return nearValue;
+        }
+        return readEntry(key, clazz).map(CachedEntry::value);
+    }
+
+    /**
+     * soft/hard TTL envelope로 저장 (Redis TTL = ttl + staleTtl)
+     */
+    private <T> boolean setEntry(String key, T value, Duration ttl, long loadMillis, RedisCacheSpec spec) {
         try {
-            String cachedValue = redisTemplate.opsForValue().get(key);
-            if (cachedValue != null) {
-                T value = objectMapper.readValue(cachedValue, clazz);
-                log.debug("Cache hit - key: {}", key);
-                return Optional.of(value);
+            RedisCacheEnvelope<T> envelope = new RedisCacheEnvelope<>(System.currentTimeMillis() + ttl.toMillis(), loadMillis, value);
+
+            Duration hardTtl = ttl.plus(spec.getStaleTtl());
+            binaryRedisTemplate.opsForValue().set(key, codecRegistry.encodeEnvelope(envelope), hardTtl);
+            nearCache.put(key, value, ttl);
+            log.debug("Cache set envelope - key: {}, softTtl: {}, hardTtl: {}, delta: {}ms", key, ttl, hardTtl, loadMillis);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to set cache envelope for key: {}, error: {}", key, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Redis 조회 (envelope이면 soft 만료 정보 포함, 일반 값이면 soft 만료 없음)
+     * 값과 남은 TTL(PTTL)을 pipeline 한 번으로 읽어, L1이 Redis보다 오래 값을 들고 있지 않게 한다.
+     */
+    private <T> Optional<CachedEntry<T>> readEntry(String key, Class<T> clazz) {
+        try {
+            List<Object> results = readWithTtl(List.of(key));
+            byte[] cachedValue = (byte[]) results.get(0);
+            if (cachedValue == null) {
+                log.debug("Cache miss - key: {}", key);
+                return Optional.empty();
             }
-            log.debug("Cache miss - key: {}", key);
-            return Optional.empty();
+
+            CachedEntry<T> entry = decodeEntry(cachedValue, clazz);
+            nearCache.put(key, entry.value(), entry.nearTtl((Long) results.get(1), System.currentTimeMillis()));
+            log.debug("Cache hit - key: {}", key);
+            return Optional.of(entry);
         } catch (JsonProcessingException e) {
             log.error("Failed to deserialize cache for key: {}, error: {}", key, e.getMessage(), e);
             return Optional.empty();
@@ -129,6 +330,168 @@ public class RedisCacheTemplate {
         }
     }
 
+    /**
+     * 값 형태가 header에 있으면 대상 타입(또는 envelope 타입)으로 바로 역직렬화, 이전 frame은 트리로 읽어 형태 판단
+     */
+    private <T> CachedEntry<T> decodeEntry(byte[] cachedValue, Class<T> clazz) throws IOException {
+        if (codecRegistry.isEnvelope(cachedValue)) {
+            JavaType envelopeType = objectMapper.getTypeFactory().constructParametricType(RedisCacheEnvelope.class, clazz);
+            RedisCacheEnvelope<T> envelope = codecRegistry.decode(cachedValue, envelopeType);
+            return new CachedEntry<>(envelope.value(), envelope.softExpireAt(), envelope.deltaMillis());
+        }
+        if (codecRegistry.isTyped(cachedValue)) {
+            return new CachedEntry<>(codecRegistry.decode(cachedValue, objectMapper.constructType(clazz)), Long.MAX_VALUE, 0L);
+        }
+
+        JsonNode node = codecRegistry.decode(cachedValue);
+        if (node.isObject() && node.has(ENVELOPE_VALUE) && node.has(ENVELOPE_SOFT_EXPIRE_AT)) {
+            return new CachedEntry<>(
+                objectMapper.treeToValue(node.get(ENVELOPE_VALUE), clazz),
+                node.get(ENVELOPE_SOFT_EXPIRE_AT).asLong(),
+                node.path(ENVELOPE_DELTA).asLong()
+            );
+        }
+        return new CachedEntry<>(objectMapper.treeToValue(node, clazz), Long.MAX_VALUE, 0L);
+    }
+
+    /**
+     * 키들의 값과 남은 TTL(ms)을 pipeline으로 조회 - [값..., PTTL...] 순
+     */
+    private List<Object> readWithTtl(List<String> keys) {
+        return binaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, byte[]> pipeline = (RedisOperations<String, byte[]>) operations;
+                keys.forEach(key -> pipeline.opsForValue().get(key));
+                keys.forEach(key -> pipeline.getExpire(key, TimeUnit.MILLISECONDS));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * supplier가 던진 예외 - 캐시 장애와 구분해 supplier 재호출(fallback) 대상에서 제외
+     */
+    private static class LoaderException extends RuntimeException {
+        LoaderException(RuntimeException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+    }
+
+    /**
+     * 캐시 값과 soft 만료 시각, 재계산 소요시간(delta)
+     */
+    private record CachedEntry<T>(T value, long softExpireAt, long deltaMillis) {
+
+        /**
+         * L1 TTL 상한 - Redis 남은 TTL, envelope이면 soft 만료까지 (L1 적중 중에도 재계산이 시작되도록)
+         * @param redisTtlMillis PTTL (음수/null이면 Redis TTL 없음)
+         */
+        Duration nearTtl(Long redisTtlMillis, long now) {
+            long limit = redisTtlMillis != null && redisTtlMillis >= 0 ? redisTtlMillis : Long.MAX_VALUE;
+            if (softExpireAt != Long.MAX_VALUE) {
+                limit = Math.min(limit, Math.max(softExpireAt - now, 0L));
+            }
+            return limit == Long.MAX_VALUE ? null : Duration.ofMillis(limit);
+        }
+
+        /**
+         * soft 만료가 지났거나, XFetch 조건(now - delta * beta * ln(rand) >= softExpireAt)을 만족하면 재계산
+         */
+        boolean shouldRefresh(long now, double beta) {
+            if (softExpireAt == Long.MAX_VALUE) {
+                return false;
+            }
+            if (now >= softExpireAt) {
+                return true;
+            }
+            if (beta <= 0 || deltaMillis <= 0) {
+                return false;
+            }
+            double random = ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, 1.0);
+            return now - deltaMillis * beta * Math.log(random) >= softExpireAt;
+        }
+    }
+
+    // ===== Multi 조회/저장 =====
+
+    /**
+     * 여러 키를 한 번에 조회 (L1 -> Redis pipeline GET + PTTL), 캐시에 없는 키는 결과에서 제외
+     */
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> clazz) {
+        Map<String, T> result = new LinkedHashMap<>();
+        List<String> remoteKeys = new ArrayList<>();
+        for (String key : new LinkedHashSet<>(keys)) {
+            Optional<T> nearValue = nearCache.get(key, clazz);
+            if (nearValue.isPresent()) {
+                result.put(key, nearValue.get());
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return result;
+        }
+
+        try {
+            List<Object> values = readWithTtl(remoteKeys);
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < remoteKeys.size(); i++) {
+                byte[] cachedValue = (byte[]) values.get(i);
+                if (cachedValue == null) {
+                    continue;
+                }
+                String key = remoteKeys.get(i);
+                try {
+                    CachedEntry<T> entry = decodeEntry(cachedValue, clazz);
+                    nearCache.put(key, entry.value(), entry.nearTtl((Long) values.get(remoteKeys.size() + i), now));
+                    result.put(key, entry.value());
+                } catch (IOException e) {
+                    log.error("Failed to deserialize cache for key: {}, error: {}", key, e.getMessage());
+                }
+            }
+            log.debug("Cache getAll - requested: {}, hit: {}", keys.size(), result.size());
+        } catch (Exception e) {
+            log.error("Failed to get caches - keys: {}, error: {}", remoteKeys.size(), e.getMessage(), e);
+        }
+        return result;
+    }
+
+    /**
+     * 여러 값을 pipeline으로 한 번에 저장
+     */
+    public <T> void setAll(Map<String, T> values, Duration ttl) {
+        if (values.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, byte[]> encoded = new LinkedHashMap<>();
+            for (Map.Entry<String, T> entry : values.entrySet()) {
+                encoded.put(entry.getKey(), codecRegistry.encode(entry.getValue()));
+            }
+
+            binaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, byte[]> pipeline = (RedisOperations<String, byte[]>) operations;
+                    encoded.forEach((key, value) -> pipeline.opsForValue().set(key, value, ttl));
+                    return null;
+                }
+            });
+            values.forEach((key, value) -> nearCache.put(key, value, ttl));
+            log.debug("Cache setAll - size: {}, ttl: {}", values.size(), ttl);
+        } catch (Exception e) {
+            log.error("Failed to set caches - size: {}, error: {}", values.size(), e.getMessage(), e);
+        }
+    }
+
     // ===== List Object 조회/저장 =====
 
     /**
@@ -136,10 +499,9 @@ public class RedisCacheTemplate {
      */
     public <T> void setList(String key, List<T> value, Duration ttl) {
         try {
-            String jsonValue = objectMapper.writeValueAsString(value);
-            redisTemplate.opsForValue().set(key, jsonValue, ttl);
+            binaryRedisTemplate.opsForValue().set(key, codecRegistry.encode(value), ttl);
             log.debug("Cache set list - key: {}, size: {}, ttl: {}", key, value.size(), ttl);
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             log.error("Failed to serialize list for cache key: {}", key, e);
         }
     }
@@ -149,10 +511,12 @@ public class RedisCacheTemplate {
      */
     public <T> Optional<List<T>> getList(String key, Class<T> clazz) {
         try {
-            String cachedValue = redisTemplate.opsForValue().get(key);
+            byte[] cachedValue = binaryRedisTemplate.opsForValue().get(key);
             if (cachedValue != null) {
-                List<T> value = objectMapper.readValue(cachedValue,
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, clazz));
+                JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, clazz);
+                List<T> value = codecRegistry.isTyped(cachedValue)
+                    ? codecRegistry.decode(cachedValue, listType)
+                    : objectMapper.convertValue(codecRegistry.decode(cachedValue), listType);
                 log.debug("Cache hit list - key: {}", key);
                 return Optional.of(value);
             }
@@ -189,12 +553,75 @@ public class RedisCacheTemplate {
     // 삭제
     public void delete(String key) {
         redisTemplate.delete(key);
+        invalidationBus.publishKey(key);
+    }
+
+    /**
+     * 여러 키 삭제 (DEL 한 번)
+     */
+    public void deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(keys);
+        keys.forEach(invalidationBus::publishKey);
     }
 
+    /**
+     * 패턴에 해당하는 키 삭제 (SCAN 기반)
+     * @deprecated 리스트 캐시는 {@link #bumpGeneration(String)}으로 무효화
+     */
+    @Deprecated
     public void deleteByPattern(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= SCAN_BATCH_SIZE) {
+                    redisTemplate.delete(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                redisTemplate.delete(batch);
+            }
+        }
+        int wildcard = pattern.indexOf('*');
+        invalidationBus.publishPrefix(wildcard >= 0 ? pattern.substring(0, wildcard) : pattern);
+    }
+
+    // ===== Generation(namespace version) =====
+
+    /**
+     * namespace의 현재 generation 조회 (없으면 0)
+     */
+    public long currentGeneration(String namespace) {
+        String key = GENERATION_PREFIX + namespace;
+        Optional<Long> nearValue = nearCache.get(key, Long.class);
+        if (nearValue.isPresent()) {
+            return nearValue.get();
+        }
+
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            long generation = value != null ? Long.parseLong(value) : 0L;
+            nearCache.put(key, generation, null);
+            return generation;
+        } catch (Exception e) {
+            log.warn("Failed to get generation for namespace: {}, error: {}", namespace, e.getMessage());
+            return 0L;
         }
     }
+
+    /**
+     * namespace generation 증가 (이전 generation 키는 TTL로 만료)
+     */
+    public long bumpGeneration(String namespace) {
+        String key = GENERATION_PREFIX + namespace;
+        Long generation = redisTemplate.opsForValue().increment(key);
+        invalidationBus.publishKey(key);
+        log.debug("Generation bumped - namespace: {}, generation: {}", namespace, generation);
+        return generation != null ? generation : 0L;
+    }
 }
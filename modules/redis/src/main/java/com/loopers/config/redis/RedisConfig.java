@@ -9,6 +9,9 @@ import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfigu
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
@@ -17,7 +20,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 @Configuration
-@EnableConfigurationProperties(RedisProperties.class)
+@EnableConfigurationProperties({RedisProperties.class, RedisCacheProperties.class})
 @Slf4j
 public class RedisConfig {
 
@@ -81,6 +84,32 @@ public class RedisConfig {
         return defaultRedisTemplate(template, lettuceConnectionFactory);
     }
 
+    /**
+     * 캐시 값(byte[] frame) 저장용
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(LettuceConnectionFactory lettuceConnectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(lettuceConnectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    /**
+     * near cache 무효화 메시지 구독 (pub/sub은 master 연결 사용)
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+        @Qualifier(CONNECTION_MASTER) LettuceConnectionFactory lettuceConnectionFactory,
+        RedisCacheInvalidationBus invalidationBus
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(lettuceConnectionFactory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(RedisCacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
     private LettuceConnectionFactory lettuceConnectionFactory(
         int database,
         RedisNodeInfo master,
@@ -0,0 +1,140 @@
+package com.loopers.config.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 앞단의 JVM 내부 L1 캐시
+ * Caffeine(W-TinyLFU)으로 크기를 제한하고, 엔트리별 TTL은 min(캐시별 nearTtl, Redis TTL)로 잡는다.
+ * 조회마다 HotKeyDetector에 기록하고, 핫 키는 별도 pinned 영역에 더 긴 TTL(near-cache-pinned-ttl)로 저장해
+ * 일반 영역의 eviction에 밀려나지 않게 한다. 무효화는 두 영역 모두에 적용된다.
+ */
+@Component
+@Slf4j
+public class RedisNearCache {
+    private static final String METRIC_NAME = "redis.near-cache";
+    private static final String PINNED_METRIC_NAME = "redis.near-cache.pinned";
+    static final String HOT_KEY_NAMESPACE = "cache";
+
+    private final RedisCacheProperties properties;
+    private final HotKeyDetector hotKeyDetector;
+    private final Cache<String, Entry> cache;
+    private final Cache<String, Entry> pinned;
+
+    public RedisNearCache(RedisCacheProperties properties, HotKeyDetector hotKeyDetector, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.hotKeyDetector = hotKeyDetector;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getNearCacheMaximumSize())
+            .expireAfter(new EntryExpiry())
+            .recordStats()
+            .build();
+        this.pinned = Caffeine.newBuilder()
+            .maximumSize(properties.getHotKeyTopK() * 4L)
+            .expireAfter(new EntryExpiry())
+            .recordStats()
+            .build();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, METRIC_NAME);
+            CaffeineCacheMetrics.monitor(registry, pinned, PINNED_METRIC_NAME);
+        }
+        log.info("Redis near cache - enabled: {}, maximumSize: {}",
+            properties.isNearCacheEnabled(), properties.getNearCacheMaximumSize());
+    }
+
+    /**
+     * L1 조회
+     */
+    public <T> Optional<T> get(String key, Class<T> clazz) {
+        hotKeyDetector.record(HOT_KEY_NAMESPACE, key);
+        if (!properties.isNearCacheEnabled()) {
+            return Optional.empty();
+        }
+        Entry entry = pinned.getIfPresent(key);
+        if (entry == null) {
+            entry = cache.getIfPresent(key);
+        }
+        if (entry != null && clazz.isInstance(entry.value())) {
+            log.debug("Near cache hit - key: {}", key);
+            return Optional.of(clazz.cast(entry.value()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * L1 저장 (redisTtl이 null이면 캐시별 nearTtl만 적용)
+     */
+    public void put(String key, Object value, Duration redisTtl) {
+        if (!properties.isNearCacheEnabled() || value == null) {
+            return;
+        }
+        RedisCacheSpec spec = properties.resolve(key);
+        if (!spec.isNearCacheEnabled()) {
+            return;
+        }
+        boolean hot = hotKeyDetector.isHot(HOT_KEY_NAMESPACE, key);
+        Duration ttl = spec.getNearTtl();
+        if (hot && properties.getNearCachePinnedTtl().compareTo(ttl) > 0) {
+            ttl = properties.getNearCachePinnedTtl();
+        }
+        if (redisTtl != null && redisTtl.compareTo(ttl) < 0) {
+            ttl = redisTtl;
+        }
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        if (hot) {
+            pinned.put(key, new Entry(value, ttl.toNanos()));
+            cache.invalidate(key);
+        } else {
+            cache.put(key, new Entry(value, ttl.toNanos()));
+        }
+    }
+
+    public void evict(String key) {
+        pinned.invalidate(key);
+        cache.invalidate(key);
+    }
+
+    public void evictByPrefix(String prefix) {
+        pinned.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public long size() {
+        return pinned.estimatedSize() + cache.estimatedSize();
+    }
+
+    public long pinnedSize() {
+        return pinned.estimatedSize();
+    }
+
+    private record Entry(Object value, long ttlNanos) {}
+
+    private static class EntryExpiry implements Expiry<String, Entry> {
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
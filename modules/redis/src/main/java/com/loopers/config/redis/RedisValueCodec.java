@@ -0,0 +1,35 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+
+/**
+ * 캐시 값 직렬화 SPI
+ * 구현체를 Bean으로 등록하고 redis.cache.codec에 이름을 지정하면 쓰기에 사용된다.
+ * 읽기는 저장된 frame header의 id로 구현체를 찾으므로, 코덱을 바꿔도 기존 값은 읽을 수 있다.
+ */
+public interface RedisValueCodec {
+
+    /**
+     * frame header에 기록되는 식별자 (구현체간 중복 불가)
+     */
+    byte id();
+
+    /**
+     * 설정에서 사용하는 이름
+     */
+    String name();
+
+    byte[] encode(Object value) throws IOException;
+
+    /**
+     * 트리로 역직렬화 (값 형태가 header에 없는 이전 frame용)
+     */
+    JsonNode decode(byte[] payload, int offset, int length) throws IOException;
+
+    /**
+     * 대상 타입으로 바로 역직렬화 (JsonNode를 거치지 않음)
+     */
+    <T> T decode(byte[] payload, int offset, int length, JavaType type) throws IOException;
+}
@@ -0,0 +1,143 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 값 frame 인코딩/디코딩
+ *
+ * <pre>
+ * [magic 1B][codec id 1B][flags 1B][payload]
+ * flags & LZ4 이면 payload = [원본 길이 4B][LZ4 block]
+ * flags & TYPED 이면 값 형태(일반 값 / soft TTL envelope)가 flags에 기록되어 대상 타입으로 바로 역직렬화할 수 있다.
+ * </pre>
+ * magic으로 시작하지 않는 값은 이전 버전에서 저장된 JSON 문자열로 읽는다.
+ */
+@Component
+@Slf4j
+public class RedisValueCodecRegistry {
+    static final byte MAGIC = (byte) 0xCA;
+    private static final int HEADER_SIZE = 3;
+    private static final byte FLAG_LZ4 = 0x01;
+    private static final byte FLAG_TYPED = 0x02;
+    private static final byte FLAG_ENVELOPE = 0x04;
+
+    private final Map<Byte, RedisValueCodec> codecs = new HashMap<>();
+    private final RedisValueCodec writeCodec;
+    private final RedisValueCodec legacyCodec;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    public RedisValueCodecRegistry(List<RedisValueCodec> codecList, RedisCacheProperties properties) {
+        for (RedisValueCodec codec : codecList) {
+            RedisValueCodec duplicated = codecs.put(codec.id(), codec);
+            if (duplicated != null) {
+                throw new IllegalStateException("Duplicated redis value codec id: " + codec.id());
+            }
+        }
+        this.writeCodec = codecList.stream()
+            .filter(codec -> codec.name().equals(properties.getCodec()))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Unknown redis value codec: " + properties.getCodec()));
+        this.legacyCodec = codecList.stream()
+            .filter(codec -> codec.name().equals(JsonRedisValueCodec.NAME))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("JSON codec is required for legacy values"));
+        this.compressionThreshold = properties.getCompressionThreshold();
+
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+        log.info("Redis value codec - write: {}, lz4 threshold: {} bytes", writeCodec.name(), compressionThreshold);
+    }
+
+    public byte[] encode(Object value) throws IOException {
+        return encode(value, FLAG_TYPED);
+    }
+
+    /**
+     * soft TTL envelope 인코딩 (읽을 때 envelope 타입으로 바로 역직렬화하도록 flags에 표시)
+     */
+    public byte[] encodeEnvelope(Object envelope) throws IOException {
+        return encode(envelope, (byte) (FLAG_TYPED | FLAG_ENVELOPE));
+    }
+
+    private byte[] encode(Object value, byte flags) throws IOException {
+        byte[] payload = writeCodec.encode(value);
+        boolean compress = compressionThreshold > 0 && payload.length >= compressionThreshold;
+
+        if (!compress) {
+            ByteBuffer frame = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+            frame.put(MAGIC).put(writeCodec.id()).put(flags).put(payload);
+            return frame.array();
+        }
+
+        int maxLength = compressor.maxCompressedLength(payload.length);
+        byte[] frame = new byte[HEADER_SIZE + Integer.BYTES + maxLength];
+        ByteBuffer.wrap(frame).put(MAGIC).put(writeCodec.id()).put((byte) (flags | FLAG_LZ4)).putInt(payload.length);
+        int compressedLength = compressor.compress(payload, 0, payload.length, frame, HEADER_SIZE + Integer.BYTES, maxLength);
+        return Arrays.copyOf(frame, HEADER_SIZE + Integer.BYTES + compressedLength);
+    }
+
+    /**
+     * 값 형태가 header에 기록된 frame인지 (아니면 decode(frame)으로 트리를 읽어 형태를 판단)
+     */
+    public boolean isTyped(byte[] frame) {
+        return hasHeader(frame) && (frame[2] & FLAG_TYPED) != 0;
+    }
+
+    public boolean isEnvelope(byte[] frame) {
+        return isTyped(frame) && (frame[2] & FLAG_ENVELOPE) != 0;
+    }
+
+    public JsonNode decode(byte[] frame) throws IOException {
+        Payload payload = payload(frame);
+        return payload.codec().decode(payload.bytes(), payload.offset(), payload.length());
+    }
+
+    /**
+     * 대상 타입으로 바로 역직렬화
+     */
+    public <T> T decode(byte[] frame, JavaType type) throws IOException {
+        Payload payload = payload(frame);
+        return payload.codec().decode(payload.bytes(), payload.offset(), payload.length(), type);
+    }
+
+    private Payload payload(byte[] frame) throws IOException {
+        if (!hasHeader(frame)) {
+            return new Payload(legacyCodec, frame, 0, frame.length);
+        }
+
+        RedisValueCodec codec = codecs.get(frame[1]);
+        if (codec == null) {
+            throw new IOException("Unknown redis value codec id: " + frame[1]);
+        }
+        if ((frame[2] & FLAG_LZ4) == 0) {
+            return new Payload(codec, frame, HEADER_SIZE, frame.length - HEADER_SIZE);
+        }
+
+        int originalLength = ByteBuffer.wrap(frame, HEADER_SIZE, Integer.BYTES).getInt();
+        byte[] payload = new byte[originalLength];
+        decompressor.decompress(frame, HEADER_SIZE + Integer.BYTES, payload, 0, originalLength);
+        return new Payload(codec, payload, 0, originalLength);
+    }
+
+    private static boolean hasHeader(byte[] frame) {
+        return frame.length >= HEADER_SIZE && frame[0] == MAGIC;
+    }
+
+    private record Payload(RedisValueCodec codec, byte[] bytes, int offset, int length) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.loopers.config.redis;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Smile(binary JSON) 코덱
+ * 반복되는 필드명은 back-reference로, BigDecimal은 scale + unscaled binary로 기록되어 JSON보다 작다.
+ */
+@Component
+public class SmileRedisValueCodec implements RedisValueCodec {
+    public static final String NAME = "smile";
+
+    private final ObjectMapper smileMapper;
+
+    public SmileRedisValueCodec(ObjectMapper objectMapper) {
+        SmileFactory smileFactory = SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+        this.smileMapper = objectMapper.copyWith(smileFactory);
+    }
+
+    @Override
+    public byte id() {
+        return 2;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return smileMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public JsonNode decode(byte[] payload, int offset, int length) throws IOException {
+        return smileMapper.readTree(smileMapper.getFactory().createParser(payload, offset, length));
+    }
+
+    @Override
+    public <T> T decode(byte[] payload, int offset, int length, JavaType type) throws IOException {
+        return smileMapper.readValue(payload, offset, length, type);
+    }
+}